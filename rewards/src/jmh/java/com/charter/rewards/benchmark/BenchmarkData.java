@@ -0,0 +1,62 @@
+package com.charter.rewards.benchmark;
+
+import com.charter.rewards.dto.RewardRows;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.mapper.RewardJsonWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic fixtures shared by the benchmarks
+final class BenchmarkData {
+
+    private static final String[] PRODUCTS = {"Laptop", "Headphones", "Smartphone", "Monitor", "Keyboard"};
+
+    private BenchmarkData() {
+    }
+
+    // Same date handling and @JsonComponent serializers as the application's Spring Boot ObjectMapper
+    static ObjectMapper objectMapper() {
+        return objectMapper(new JsonFactory());
+    }
+
+    // The same over another Jackson format, as WireFormatConfig builds the CBOR and Smile mappers
+    static ObjectMapper objectMapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule().addSerializer(RewardRows.class, new RewardJsonWriter()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    static Customer customer(long id) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setCustName("Customer " + id);
+        customer.setPhoneNo("$2a$10$g8S4kPvrcZZPFt2IMLJGAOhPfQHcQcGPsUxn4uhfmBNXxU7..UeyO");
+        return customer;
+    }
+
+    // Amounts spread over the three reward bands, dates over the last two years
+    static List<Transaction> transactions(Customer customer, int count, long seed) {
+        Random random = new Random(seed);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Transaction tx = new Transaction();
+            tx.setId((long) i + 1);
+            tx.setDate(start.plusDays(random.nextInt(730)));
+            tx.setAmount(Math.round(random.nextDouble() * 25000) / 100.0);
+            tx.setProduct(PRODUCTS[random.nextInt(PRODUCTS.length)]);
+            tx.setCustomer(customer);
+            transactions.add(tx);
+        }
+        return transactions;
+    }
+}
@@ -0,0 +1,70 @@
+package com.charter.rewards.benchmark;
+
+import com.charter.rewards.RewardsApplication;
+import com.charter.rewards.service.RewardLedgerService;
+import com.charter.rewards.service.RewardRollupService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// The whole application on a random port, backed by an in-memory H2 database in MySQL mode (schema from db/migration/h2)
+final class BenchmarkServer implements AutoCloseable {
+
+    private static final String[] PRODUCTS = {"Laptop", "Headphones", "Smartphone", "Monitor", "Keyboard"};
+
+    private final ConfigurableApplicationContext context;
+
+    BenchmarkServer(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:rewards-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--rewards.rollup.rebuild-on-empty=false",
+                "--logging.level.root=warn"));
+        args.addAll(List.of(extraArgs));
+        context = new SpringApplicationBuilder(RewardsApplication.class).run(args.toArray(String[]::new));
+    }
+
+    int port() {
+        return ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + port();
+    }
+
+    // Customers 1..customers with txPerCustomer transactions each, dated over 2025, then the monthly rollup and ledger
+    void seed(int customers, int txPerCustomer) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Object[]> customerRows = new ArrayList<>(customers);
+        List<Object[]> txRows = new ArrayList<>(customers * txPerCustomer);
+        Random random = new Random(42);
+        long txId = 1;
+        for (long id = 1; id <= customers; id++) {
+            customerRows.add(new Object[]{id, "Customer " + id, "0000000000"});
+            for (int i = 0; i < txPerCustomer; i++) {
+                double amount = Math.round(random.nextDouble() * 25000) / 100.0;
+                LocalDate date = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365));
+                txRows.add(new Object[]{txId++, id, date, PRODUCTS[random.nextInt(PRODUCTS.length)], amount});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO customers (id, cust_name, phone_no) VALUES (?, ?, ?)", customerRows);
+        jdbc.batchUpdate("INSERT INTO transactions (id, customer_id, date, product, amount) VALUES (?, ?, ?, ?, ?)", txRows);
+        context.getBean(RewardRollupService.class).rebuild();
+        context.getBean(RewardLedgerService.class).warm();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,73 @@
+package com.charter.rewards.benchmark;
+
+import com.charter.rewards.dto.RewardResponseDTO;
+import com.charter.rewards.aggregation.RewardAggregator;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.mapper.RewardMapper;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.TransactionRepository;
+import com.charter.rewards.serviceImpl.RewardServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// getRewardsForCustomer with in-memory repositories: points, monthly aggregation and DTO building only
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildResponseBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int transactionCount;
+
+    // MAX_VALUE: always sequential; 20000: the default fork-join threshold
+    @Param({"2147483647", "20000"})
+    private int parallelThreshold;
+
+    private RewardServiceImpl rewardService;
+    private RewardAggregator aggregator;
+
+    // Not month-aligned, so the monthly totals are aggregated from the transactions
+    private final LocalDate startDate = LocalDate.of(2024, 1, 2);
+    private final LocalDate endDate = LocalDate.of(2025, 12, 30);
+
+    @Setup
+    public void setUp() {
+        Customer customer = BenchmarkData.customer(1L);
+        List<Transaction> transactions = BenchmarkData.transactions(customer, transactionCount, 42L);
+
+        CustomerRepository customerRepository = mock(CustomerRepository.class);
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        when(customerRepository.findById(anyLong())).thenReturn(Optional.of(customer));
+        when(transactionRepository.findByCustomerIdAndDateBetween(anyLong(), any(), any())).thenReturn(transactions);
+
+        rewardService = new RewardServiceImpl();
+        ReflectionTestUtils.setField(rewardService, "customerRepository", customerRepository);
+        ReflectionTestUtils.setField(rewardService, "transactionRepository", transactionRepository);
+        ReflectionTestUtils.setField(rewardService, "mapper", new RewardMapper());
+        aggregator = new RewardAggregator(new RewardMapper(), 0, parallelThreshold, 4096, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rewardService, "aggregator", aggregator);
+    }
+
+    @TearDown
+    public void tearDown() {
+        aggregator.destroy();
+    }
+
+    @Benchmark
+    public RewardResponseDTO buildResponse() {
+        return rewardService.getRewardsForCustomer(1L, startDate, endDate);
+    }
+}
@@ -0,0 +1,55 @@
+package com.charter.rewards.benchmark;
+
+import com.charter.rewards.columnar.ColumnarTransactions;
+import com.charter.rewards.columnar.RewardTotals;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Range totals and the full summary over 1M transactions (10k customers) held in the columnar store
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarBenchmark {
+
+    private static final int CUSTOMERS = 10_000;
+    private static final int TX_PER_CUSTOMER = 100;
+
+    @Param({"false", "true"})
+    private boolean offHeap;
+
+    private ColumnarTransactions store;
+    private final LocalDate from = LocalDate.of(2024, 4, 1);
+    private final LocalDate to = LocalDate.of(2024, 9, 30);
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ColumnarTransactions.Builder builder = ColumnarTransactions.builder(CUSTOMERS * TX_PER_CUSTOMER);
+        for (long customerId = 1; customerId <= CUSTOMERS; customerId++) {
+            LocalDate date = LocalDate.of(2024, 1, 1);
+            for (int i = 0; i < TX_PER_CUSTOMER; i++) {
+                date = date.plusDays(random.nextInt(8));
+                builder.add(customerId, date, Math.round(random.nextDouble() * 25000) / 100.0, "Product " + random.nextInt(50));
+            }
+        }
+        store = builder.build(offHeap);
+    }
+
+    @Benchmark
+    public RewardTotals customerRange() {
+        return store.rewards(1 + ThreadLocalRandom.current().nextInt(CUSTOMERS), from, to);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<RewardTotals> summary() {
+        return store.summary();
+    }
+}
@@ -0,0 +1,108 @@
+package com.charter.rewards.benchmark;
+
+import com.charter.rewards.dto.RewardResponseDTO;
+import com.charter.rewards.aggregation.RewardAggregator;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.mapper.RewardMapper;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.TransactionRepository;
+import com.charter.rewards.serviceImpl.RewardServiceImpl;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// JSON of /customers/{id}/rewards. serialize: Jackson over a prebuilt RewardResponseDTO. dtoResponse vs
+// rowsResponse: building and writing the response from the transaction rows, through the DTO and Jackson's bean
+// serializer as before, or as RewardRows through RewardJsonWriter. Run with -prof gc for the allocation rates.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int transactionCount;
+
+    private ObjectWriter writer;
+    private RewardServiceImpl rewardService;
+    private RewardAggregator aggregator;
+    private RewardResponseDTO response;
+
+    // Not month-aligned, so the monthly totals are aggregated from the transactions
+    private final LocalDate startDate = LocalDate.of(2024, 1, 2);
+    private final LocalDate endDate = LocalDate.of(2025, 12, 30);
+
+    @Setup
+    public void setUp() {
+        Customer customer = BenchmarkData.customer(1L);
+        List<Transaction> transactions = BenchmarkData.transactions(customer, transactionCount, 42L);
+
+        CustomerRepository customerRepository = mock(CustomerRepository.class);
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        when(customerRepository.findById(anyLong())).thenReturn(Optional.of(customer));
+        when(transactionRepository.findByCustomerIdAndDateBetween(anyLong(), any(), any())).thenReturn(transactions);
+
+        rewardService = new RewardServiceImpl();
+        aggregator = new RewardAggregator(new RewardMapper(), 1, Integer.MAX_VALUE, 4096, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rewardService, "customerRepository", customerRepository);
+        ReflectionTestUtils.setField(rewardService, "transactionRepository", transactionRepository);
+        ReflectionTestUtils.setField(rewardService, "mapper", new RewardMapper());
+        ReflectionTestUtils.setField(rewardService, "aggregator", aggregator);
+        response = rewardService.getRewardsForCustomer(1L, startDate, endDate);
+
+        writer = BenchmarkData.objectMapper().writer();
+    }
+
+    @TearDown
+    public void tearDown() {
+        aggregator.destroy();
+    }
+
+    @Benchmark
+    public void serialize(Blackhole blackhole) throws Exception {
+        writer.writeValue(new BlackholeOutputStream(blackhole), response);
+    }
+
+    @Benchmark
+    public void dtoResponse(Blackhole blackhole) throws Exception {
+        writer.writeValue(new BlackholeOutputStream(blackhole), rewardService.getRewardsForCustomer(1L, startDate, endDate));
+    }
+
+    @Benchmark
+    public void rowsResponse(Blackhole blackhole) throws Exception {
+        writer.writeValue(new BlackholeOutputStream(blackhole), rewardService.getRewardRowsForCustomer(1L, startDate, endDate));
+    }
+
+    // Discards the bytes without buffering them, so only serialization is measured
+    private static final class BlackholeOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+
+        private BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.charter.rewards.benchmark;
+
+import com.charter.rewards.security.VerifiedToken;
+import com.charter.rewards.security.VerifiedTokenCache;
+import com.charter.rewards.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+// Token issue and the per-request checks done by JwtAuthenticationFilter
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        token = jwtUtil.generateToken("Jack");
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, 1000, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("Jack");
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token, "Jack");
+    }
+
+    // Former filter path: the token was parsed and verified twice per request
+    @Benchmark
+    public boolean extractThenValidate() {
+        String username = jwtUtil.extractUsername(token);
+        return jwtUtil.validateToken(token, username);
+    }
+
+    // Current filter path for a token seen before: digest lookup, no parse or HMAC
+    @Benchmark
+    public VerifiedToken cachedVerify() {
+        return verifiedTokenCache.verify(token);
+    }
+}
@@ -0,0 +1,88 @@
+package com.charter.rewards.benchmark;
+
+import com.charter.rewards.dto.CustomerResponseDTO;
+import com.charter.rewards.dto.SummaryResponseDTO;
+import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.mapper.RewardMapper;
+import com.charter.rewards.util.RewardPointsCalculator;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Response mapping: the former reflection + ModelMapper path against RewardMapper
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "1000"})
+    private int transactionCount;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final RewardMapper rewardMapper = new RewardMapper();
+
+    private Customer customer;
+    private List<Transaction> transactions;
+    private Map<String, Integer> monthlyRewards;
+
+    @Setup
+    public void setUp() {
+        customer = BenchmarkData.customer(1L);
+        transactions = BenchmarkData.transactions(customer, transactionCount, 42L);
+        customer.setTransactions(transactions);
+        monthlyRewards = Map.of("2025-08", 90);
+    }
+
+    @Benchmark
+    public SummaryResponseDTO summaryReflectionAndModelMapper() {
+        List<TransactionDTO> dtos = new ArrayList<>(transactions.size());
+        for (Transaction tx : transactions) {
+            TransactionDTO dto = modelMapper.map(tx, TransactionDTO.class);
+            dto.setRewardPoints(RewardPointsCalculator.calculatePoints(tx.getAmount()));
+            dtos.add(dto);
+        }
+        SummaryResponseDTO response = new SummaryResponseDTO();
+        setCommonFieldsReflectively(response, dtos);
+        return response;
+    }
+
+    @Benchmark
+    public SummaryResponseDTO summaryRewardMapper() {
+        List<TransactionDTO> dtos = new ArrayList<>(transactions.size());
+        for (Transaction tx : transactions) {
+            dtos.add(rewardMapper.toTransactionDTO(tx, RewardPointsCalculator.calculatePoints(tx.getAmount())));
+        }
+        return rewardMapper.fillRewardResponse(new SummaryResponseDTO(), customer, dtos, monthlyRewards, 90);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO customerResponseModelMapper() {
+        return modelMapper.map(customer, CustomerResponseDTO.class);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO customerResponseRewardMapper() {
+        return rewardMapper.toCustomerResponse(customer);
+    }
+
+    // Copy of the reflective helper RewardServiceImpl used before RewardMapper
+    private void setCommonFieldsReflectively(Object response, List<TransactionDTO> txDtos) {
+        try {
+            response.getClass().getMethod("setCustomerId", Long.class).invoke(response, customer.getId());
+            response.getClass().getMethod("setCustName", String.class).invoke(response, customer.getCustName());
+            response.getClass().getMethod("setPhoneNo", String.class).invoke(response, customer.getPhoneNo());
+            response.getClass().getMethod("setTransactions", List.class).invoke(response, txDtos);
+            response.getClass().getMethod("setMonthlyRewards", Map.class).invoke(response, monthlyRewards);
+            response.getClass().getMethod("setTotalRewards", Integer.class).invoke(response, 90);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set common fields on response DTO", e);
+        }
+    }
+}
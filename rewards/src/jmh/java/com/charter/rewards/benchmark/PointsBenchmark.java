@@ -0,0 +1,69 @@
+package com.charter.rewards.benchmark;
+
+import com.charter.rewards.util.RewardPointsCalculator;
+import org.openjdk.jmh.annotations.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// calculatePoints over 1024 amounts drawn from one reward band, or from all of them (branch-unpredictable):
+// per-row on doubles, and the batch form on cents through the scalar loop and the vector kernel
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointsBenchmark {
+
+    @Param({"below50", "between50and100", "above100", "mixed"})
+    private String distribution;
+
+    private double[] amounts;
+    private long[] cents;
+    private int[] points;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        amounts = new double[1024];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = switch (distribution) {
+                case "below50" -> random.nextDouble() * 50;
+                case "between50and100" -> 50 + random.nextDouble() * 50;
+                case "above100" -> 100 + random.nextDouble() * 900;
+                default -> random.nextDouble() * 250;
+            };
+        }
+        cents = new long[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = Math.round(amounts[i] * 100) / 100.0;
+            cents[i] = Math.round(amounts[i] * 100);
+        }
+        points = new int[amounts.length];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int calculatePoints() {
+        int total = 0;
+        for (double amount : amounts) {
+            total += RewardPointsCalculator.calculatePoints(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int[] batchScalar() {
+        RewardPointsCalculator.calculatePointsScalar(cents, points, cents.length);
+        return points;
+    }
+
+    // Falls back to the scalar loop when the JVM lacks jdk.incubator.vector
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int[] batchVector() {
+        RewardPointsCalculator.calculatePoints(cents, points, cents.length);
+        return points;
+    }
+}
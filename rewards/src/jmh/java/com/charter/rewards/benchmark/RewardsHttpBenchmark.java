@@ -0,0 +1,55 @@
+package com.charter.rewards.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// GET /customers/{id}/rewards end to end, platform-thread Tomcat vs virtual threads (with the JDBC limiter).
+// SampleTime reports p99 alongside the mean; throughput is ops/s across all client threads.
+// mvn -Pjmh test-compile exec:exec -Djmh.include=RewardsHttp
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class RewardsHttpBenchmark {
+
+    private static final int CUSTOMERS = 500;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private BenchmarkServer server;
+    private HttpClient client;
+    private String rewardsUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new BenchmarkServer("--spring.threads.virtual.enabled=" + virtualThreads);
+        server.seed(CUSTOMERS, 40);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        rewardsUrl = server.baseUrl() + "/api/rewards/customers/%d/rewards?startDate=2025-01-01&endDate=2025-03-31";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public int customerRewards() throws Exception {
+        long customerId = ThreadLocalRandom.current().nextLong(1, CUSTOMERS + 1);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(rewardsUrl.formatted(customerId))).GET().build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + ": " + new String(response.body()));
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,98 @@
+package com.charter.rewards.benchmark;
+
+import com.charter.rewards.aggregation.RewardAggregator;
+import com.charter.rewards.dto.RewardResponseDTO;
+import com.charter.rewards.dto.RewardRows;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.mapper.RewardMapper;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.TransactionRepository;
+import com.charter.rewards.serviceImpl.RewardServiceImpl;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// /customers/{id}/rewards per wire format. encode: RewardRows through RewardJsonWriter, as served. decode: into
+// RewardResponseDTO, as a client reads it. Payload sizes, plain and gzipped, are printed at setup.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "10000"})
+    private int transactionCount;
+
+    private ObjectMapper mapper;
+    private RewardRows rows;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        Customer customer = BenchmarkData.customer(1L);
+        List<Transaction> transactions = BenchmarkData.transactions(customer, transactionCount, 42L);
+
+        CustomerRepository customerRepository = mock(CustomerRepository.class);
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        when(customerRepository.findById(anyLong())).thenReturn(Optional.of(customer));
+        when(transactionRepository.findByCustomerIdAndDateBetween(anyLong(), any(), any())).thenReturn(transactions);
+
+        RewardServiceImpl rewardService = new RewardServiceImpl();
+        RewardAggregator aggregator = new RewardAggregator(new RewardMapper(), 1, Integer.MAX_VALUE, 4096, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rewardService, "customerRepository", customerRepository);
+        ReflectionTestUtils.setField(rewardService, "transactionRepository", transactionRepository);
+        ReflectionTestUtils.setField(rewardService, "mapper", new RewardMapper());
+        ReflectionTestUtils.setField(rewardService, "aggregator", aggregator);
+        rows = rewardService.getRewardRowsForCustomer(1L, LocalDate.of(2024, 1, 2), LocalDate.of(2025, 12, 30));
+        aggregator.destroy();
+
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = BenchmarkData.objectMapper(factory);
+        payload = mapper.writeValueAsBytes(rows);
+        System.out.printf("%n%s, %d transactions: %d bytes, %d gzipped%n",
+                format, transactionCount, payload.length, gzip(payload).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(rows);
+    }
+
+    @Benchmark
+    public RewardResponseDTO decode() throws IOException {
+        return mapper.readValue(payload, RewardResponseDTO.class);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,215 @@
+package com.charter.rewards.loadtest;
+
+import com.charter.rewards.util.RewardPointsCalculator;
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+// Writes customers, transactions and the monthly rollup straight through JDBC batches, one customer at a time,
+// so the (customer_id, date, id) index is filled in order. Deterministic for a given config and seed:
+// - activity: customer i gets a share (i/C)^(1/skew) - ((i-1)/C)^(1/skew) of the transactions, so low ids are
+//   heavy users (with skew 2 and 1M/50M, customer 1 has ~50k transactions, the last ones ~25)
+// - dates: volume grows over the window (last day twice the first), November/December peaks, busier weekends
+// - amounts: log-normal around $60, so all three reward bands are well populated
+// - products: a weighted catalogue
+final class DatasetGenerator {
+
+    private static final String[] PRODUCTS = {"Headphones", "Keyboard", "Mouse", "Charger", "Speaker",
+            "Monitor", "Smartphone", "Tablet", "Laptop", "Camera"};
+    private static final double[] PRODUCT_WEIGHTS = {14, 12, 16, 18, 10, 8, 9, 6, 5, 2};
+
+    private static final int BATCH_SIZE = 5000;
+    private static final int COMMIT_ROWS = 100_000;
+
+    private final LoadTestConfig config;
+    private final LocalDate[] days;
+    private final double[] dayWeights;
+    private final double[] productWeights;
+
+    DatasetGenerator(LoadTestConfig config) {
+        this.config = config;
+        LocalDate start = config.startDate();
+        int dayCount = (int) (config.endDate().toEpochDay() - start.toEpochDay()) + 1;
+        this.days = new LocalDate[dayCount];
+        this.dayWeights = new double[dayCount];
+        double cumulative = 0;
+        for (int i = 0; i < dayCount; i++) {
+            LocalDate day = start.plusDays(i);
+            days[i] = day;
+            cumulative += (1.0 + (double) i / dayCount) * seasonal(day) * (weekend(day) ? 1.15 : 1.0);
+            dayWeights[i] = cumulative;
+        }
+        this.productWeights = cumulative(PRODUCT_WEIGHTS);
+    }
+
+    // phoneHash: the encoded password stored for every customer
+    void generate(DataSource dataSource, String phoneHash) throws SQLException {
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(config.seed());
+        long customers = config.customers();
+        double exponent = 1.0 / config.customerSkew();
+        long transactionId = 0;
+        long uncommitted = 0;
+        long nextReport = config.transactions() / 20;
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement customerInsert = connection.prepareStatement(
+                     "INSERT INTO customers (id, cust_name, phone_no) VALUES (?, ?, ?)");
+             PreparedStatement transactionInsert = connection.prepareStatement(
+                     "INSERT INTO transactions (id, customer_id, date, product, amount) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement rollupInsert = connection.prepareStatement(
+                     "INSERT INTO customer_monthly_rewards (customer_id, reward_month, points, tx_count, amount_sum_cents) VALUES (?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            Batch customerBatch = new Batch(customerInsert, null);
+            Batch transactionBatch = new Batch(transactionInsert, customerBatch);
+            Batch rollupBatch = new Batch(rollupInsert, null);
+
+            double previousShare = 0;
+            for (long id = 1; id <= customers; id++) {
+                customerInsert.setLong(1, id);
+                customerInsert.setString(2, "Customer " + id);
+                customerInsert.setString(3, phoneHash);
+                customerBatch.add();
+
+                double share = Math.pow((double) id / customers, exponent);
+                double expected = config.transactions() * (share - previousShare);
+                previousShare = share;
+                int count = (int) Math.floor(expected + random.nextDouble());
+
+                int[] dayIndexes = new int[count];
+                for (int i = 0; i < count; i++) {
+                    dayIndexes[i] = pick(dayWeights, random);
+                }
+                Arrays.sort(dayIndexes);
+
+                TreeMap<String, long[]> months = new TreeMap<>();
+                for (int dayIndex : dayIndexes) {
+                    long cents = amountCents(random);
+                    LocalDate date = days[dayIndex];
+                    transactionInsert.setLong(1, ++transactionId);
+                    transactionInsert.setLong(2, id);
+                    transactionInsert.setObject(3, date);
+                    transactionInsert.setString(4, PRODUCTS[pick(productWeights, random)]);
+                    transactionInsert.setBigDecimal(5, BigDecimal.valueOf(cents, 2));
+                    transactionBatch.add();
+
+                    long[] month = months.computeIfAbsent(YearMonth.from(date).toString(), m -> new long[3]);
+                    month[0] += RewardPointsCalculator.calculatePointsFromCents(cents);
+                    month[1]++;
+                    month[2] += cents;
+                }
+                for (var month : months.entrySet()) {
+                    rollupInsert.setLong(1, id);
+                    rollupInsert.setString(2, month.getKey());
+                    rollupInsert.setInt(3, (int) month.getValue()[0]);
+                    rollupInsert.setInt(4, (int) month.getValue()[1]);
+                    rollupInsert.setLong(5, month.getValue()[2]);
+                    rollupBatch.add();
+                }
+
+                uncommitted += count + 1;
+                if (uncommitted >= COMMIT_ROWS) {
+                    customerBatch.flush();
+                    transactionBatch.flush();
+                    rollupBatch.flush();
+                    connection.commit();
+                    uncommitted = 0;
+                }
+                if (transactionId >= nextReport) {
+                    System.out.printf("Seeded %,d customers, %,d transactions (%d s)%n",
+                            id, transactionId, (System.currentTimeMillis() - started) / 1000);
+                    nextReport += config.transactions() / 20;
+                }
+            }
+            customerBatch.flush();
+            transactionBatch.flush();
+            rollupBatch.flush();
+            connection.commit();
+
+            // Explicit ids were inserted: move the generators past them for the application's own inserts
+            // (customers use IDENTITY, transactions the pooled transactions_seq with allocation size 50)
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE customers ALTER COLUMN id RESTART WITH " + (customers + 1));
+                statement.execute("ALTER SEQUENCE transactions_seq RESTART WITH " + (transactionId + 51));
+                statement.execute("ANALYZE");
+            }
+            connection.commit();
+        }
+        System.out.printf("Seeded %,d customers, %,d transactions in %d s%n",
+                customers, transactionId, (System.currentTimeMillis() - started) / 1000);
+    }
+
+    // Median $60, about 30% of amounts above $100 and 40% below $50
+    private static long amountCents(SplittableRandom random) {
+        double amount = Math.exp(Math.log(60) + 0.75 * random.nextGaussian());
+        return Math.round(Math.min(5000, Math.max(1, amount)) * 100);
+    }
+
+    private static double seasonal(LocalDate day) {
+        return switch (day.getMonth()) {
+            case NOVEMBER -> 1.25;
+            case DECEMBER -> 1.6;
+            case JANUARY -> 0.85;
+            default -> 1.0;
+        };
+    }
+
+    private static boolean weekend(LocalDate day) {
+        return day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    // Index drawn with probability proportional to its weight, from cumulative weights
+    static int pick(double[] cumulative, SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // Executes a prepared statement's batch every BATCH_SIZE rows, after the batch its rows reference (FK)
+    private static final class Batch {
+        private final PreparedStatement statement;
+        private final Batch parent;
+        private int size;
+
+        private Batch(PreparedStatement statement, Batch parent) {
+            this.statement = statement;
+            this.parent = parent;
+        }
+
+        private void add() throws SQLException {
+            statement.addBatch();
+            if (++size == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (size > 0) {
+                statement.executeBatch();
+                size = 0;
+            }
+        }
+    }
+}
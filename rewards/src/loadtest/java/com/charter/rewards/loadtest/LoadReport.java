@@ -0,0 +1,124 @@
+package com.charter.rewards.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Throughput, error rate and latency percentiles per scenario and overall, written as JSON and HTML
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+
+    private final Map<String, Object> report = new LinkedHashMap<>();
+
+    LoadReport(LoadTestConfig config, Map<String, OpenLoadDriver.Stats> stats, Duration measured) {
+        Histogram all = new Histogram(3);
+        Map<String, Long> allStatuses = new LinkedHashMap<>();
+        long allRequests = 0;
+        long allErrors = 0;
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        for (Map.Entry<String, OpenLoadDriver.Stats> entry : stats.entrySet()) {
+            OpenLoadDriver.Stats scenario = entry.getValue();
+            Histogram latency = scenario.latency.copy();
+            all.add(latency);
+            allRequests += scenario.requests();
+            allErrors += scenario.errors();
+            scenario.statusCounts().forEach((status, count) -> allStatuses.merge(status, count, Long::sum));
+            scenarios.put(entry.getKey(), result(scenario.requests(), scenario.errors(), scenario.statusCounts(), latency, measured));
+        }
+
+        report.put("finishedAt", Instant.now().toString());
+        report.put("settings", config.describe());
+        report.put("total", result(allRequests, allErrors, allStatuses, all, measured));
+        report.put("scenarios", scenarios);
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path json = directory.resolve("loadtest-report.json");
+        Path html = directory.resolve("loadtest-report.html");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), report);
+        Files.writeString(html, html());
+        System.out.printf("Report: %s%n        %s%n", json.toAbsolutePath(), html.toAbsolutePath());
+    }
+
+    private static Map<String, Object> result(long requests, long errors, Map<String, Long> statuses,
+                                              Histogram latency, Duration measured) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", requests);
+        result.put("throughputPerSecond", round(requests / (measured.toNanos() / 1e9)));
+        result.put("errors", errors);
+        result.put("errorRate", requests == 0 ? 0.0 : round((double) errors / requests));
+        result.put("statuses", statuses);
+        Map<String, Object> millis = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            millis.put("p" + (percentile == (long) percentile ? Long.toString((long) percentile) : Double.toString(percentile)),
+                    toMillis(latency.getValueAtPercentile(percentile)));
+        }
+        millis.put("max", toMillis(latency.getMaxValue()));
+        millis.put("mean", round(latency.getMean() / 1e6));
+        result.put("latencyMillis", millis);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String html() {
+        StringBuilder html = new StringBuilder("""
+                <!DOCTYPE html>
+                <html><head><meta charset="utf-8"><title>Rewards load test</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; }
+                table { border-collapse: collapse; margin-bottom: 2em; }
+                th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                .error { color: #b00; font-weight: bold; }
+                </style></head><body>
+                <h1>Rewards load test</h1>
+                """);
+        html.append("<p>Finished ").append(report.get("finishedAt")).append("</p>\n<h2>Results</h2>\n<table>\n")
+                .append("<tr><th>Scenario</th><th>Requests</th><th>Req/s</th><th>Error rate</th>")
+                .append("<th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>Max ms</th><th>Statuses</th></tr>\n");
+        row(html, "total", (Map<String, Object>) report.get("total"));
+        ((Map<String, Object>) report.get("scenarios")).forEach((name, result) -> row(html, name, (Map<String, Object>) result));
+        html.append("</table>\n<h2>Settings</h2>\n<table>\n");
+        ((Map<String, Object>) report.get("settings")).forEach((key, value) ->
+                html.append("<tr><td>").append(escape(key)).append("</td><td>").append(escape(String.valueOf(value))).append("</td></tr>\n"));
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void row(StringBuilder html, String name, Map<String, Object> result) {
+        Map<String, Object> latency = (Map<String, Object>) result.get("latencyMillis");
+        double errorRate = (double) result.get("errorRate");
+        html.append("<tr><td>").append(escape(name)).append("</td>");
+        for (Object value : List.of(result.get("requests"), result.get("throughputPerSecond"))) {
+            html.append("<td>").append(value).append("</td>");
+        }
+        html.append(errorRate > 0 ? "<td class=\"error\">" : "<td>").append(String.format(Locale.ROOT, "%.2f%%", errorRate * 100)).append("</td>");
+        for (String key : List.of("p50", "p95", "p99", "p99.9", "max")) {
+            html.append("<td>").append(latency.get(key)).append("</td>");
+        }
+        html.append("<td>").append(escape(String.valueOf(result.get("statuses")))).append("</td></tr>\n");
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
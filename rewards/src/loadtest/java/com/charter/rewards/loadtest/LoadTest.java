@@ -0,0 +1,41 @@
+package com.charter.rewards.loadtest;
+
+// Seeds an H2 database with a synthetic dataset, then drives the REST endpoints with open-model load and
+// writes loadtest-report.json/.html. Modes:
+//   all     seed if needed, start the application in this JVM and drive it (default)
+//   seed    only generate the database
+//   server  seed if needed and serve until stopped (drive it from another JVM with --mode=drive)
+//   drive   only drive --target=http://host:port
+// mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--customers=1000000 --transactions=50000000 --rate=500 --duration=5m"
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        if ("drive".equals(config.mode())) {
+            drive(config, config.target());
+            return;
+        }
+        try (LoadTestServer server = new LoadTestServer(config)) {
+            server.seedIfEmpty();
+            switch (config.mode()) {
+                case "server" -> {
+                    System.out.println("Serving " + server.baseUrl() + " (Ctrl+C to stop)");
+                    Thread.currentThread().join();
+                }
+                case "all" -> drive(config, config.target().isEmpty() ? server.baseUrl() : config.target());
+                default -> {
+                }
+            }
+        }
+        // Spring and HTTP client threads must not keep the exec:exec JVM alive
+        System.exit(0);
+    }
+
+    private static void drive(LoadTestConfig config, String baseUrl) throws Exception {
+        OpenLoadDriver driver = new OpenLoadDriver(config, new Scenarios(config, baseUrl));
+        driver.run().write(config.reportDir());
+    }
+}
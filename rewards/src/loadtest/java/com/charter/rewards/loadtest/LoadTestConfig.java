@@ -0,0 +1,123 @@
+package com.charter.rewards.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Load test settings from --key=value arguments; --app.<property>=<value> is passed on to the embedded application
+record LoadTestConfig(
+        String mode,
+        String target,
+        Path database,
+        long customers,
+        long transactions,
+        int months,
+        LocalDate endDate,
+        double customerSkew,
+        long seed,
+        double rate,
+        boolean poisson,
+        Duration warmup,
+        Duration duration,
+        Duration timeout,
+        int maxInFlight,
+        Map<String, Integer> mix,
+        Path reportDir,
+        List<String> appArgs) {
+
+    static final String DEFAULT_MIX = "rewards:55,page:25,transactions:5,bulk:8,authenticate:5,create:2,summary:0";
+
+    // Plain-text password of every generated customer (stored BCrypt-hashed like a real one)
+    static final String PHONE_NO = "9000000000";
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (key.startsWith("app.")) {
+                appArgs.add("--" + key.substring(4) + "=" + value);
+            } else {
+                options.put(key, value);
+            }
+        }
+
+        long customers = Long.parseLong(options.getOrDefault("customers", "100000"));
+        long transactions = Long.parseLong(options.getOrDefault("transactions", "5000000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        // One database file per dataset, so a rerun with the same volumes and seed skips the seeding
+        Path database = Path.of(options.getOrDefault("db",
+                "target/loadtest/rewards-" + customers + "-" + transactions + "-" + seed)).toAbsolutePath();
+
+        LoadTestConfig config = new LoadTestConfig(
+                options.getOrDefault("mode", "all"),
+                options.getOrDefault("target", ""),
+                database,
+                customers,
+                transactions,
+                Integer.parseInt(options.getOrDefault("months", "24")),
+                LocalDate.parse(options.getOrDefault("end-date", "2025-12-31")),
+                Double.parseDouble(options.getOrDefault("customer-skew", "2.0")),
+                seed,
+                Double.parseDouble(options.getOrDefault("rate", "200")),
+                !"constant".equals(options.getOrDefault("arrivals", "poisson")),
+                DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(options.getOrDefault("duration", "60s")),
+                DurationStyle.detectAndParse(options.getOrDefault("timeout", "30s")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "10000")),
+                parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                Path.of(options.getOrDefault("report-dir", "target/loadtest")),
+                List.copyOf(appArgs));
+        if (!List.of("all", "seed", "server", "drive").contains(config.mode())) {
+            throw new IllegalArgumentException("--mode must be all, seed, server or drive");
+        }
+        if ("drive".equals(config.mode()) && config.target().isEmpty()) {
+            throw new IllegalArgumentException("--mode=drive needs --target=http://host:port");
+        }
+        return config;
+    }
+
+    LocalDate startDate() {
+        return endDate.minusMonths(months).plusDays(1);
+    }
+
+    // Settings as written to the report
+    Map<String, Object> describe() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("customers", customers);
+        settings.put("transactions", transactions);
+        settings.put("dates", startDate() + ".." + endDate);
+        settings.put("customerSkew", customerSkew);
+        settings.put("seed", seed);
+        settings.put("rate", rate);
+        settings.put("arrivals", poisson ? "poisson" : "constant");
+        settings.put("warmup", warmup.toString());
+        settings.put("duration", duration.toString());
+        settings.put("mix", mix);
+        settings.put("target", target.isEmpty() ? "embedded" : target);
+        settings.put("appArgs", appArgs);
+        return settings;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            String scenario = parts[0].trim();
+            if (!Scenarios.NAMES.contains(scenario)) {
+                throw new IllegalArgumentException("Unknown scenario " + scenario + ", expected one of " + Scenarios.NAMES);
+            }
+            weights.put(scenario, Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
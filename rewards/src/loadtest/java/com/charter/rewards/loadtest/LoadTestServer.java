@@ -0,0 +1,63 @@
+package com.charter.rewards.loadtest;
+
+import com.charter.rewards.RewardsApplication;
+import com.charter.rewards.service.RewardLedgerService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// The whole application on an H2 file database in MySQL mode (schema from db/migration/h2), kept between runs
+final class LoadTestServer implements AutoCloseable {
+
+    private final LoadTestConfig config;
+    private final ConfigurableApplicationContext context;
+
+    LoadTestServer(LoadTestConfig config) {
+        this.config = config;
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:file:" + config.database() + ";MODE=MySQL;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                // The generator writes the rollup itself
+                "--rewards.rollup.rebuild-on-empty=false",
+                "--logging.level.root=warn",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"));
+        // Later arguments win, so --app.* overrides the defaults above
+        args.addAll(config.appArgs());
+        context = new SpringApplicationBuilder(RewardsApplication.class).run(args.toArray(String[]::new));
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    // Generates the dataset into an empty database; an existing one (same volumes and seed) is reused as is
+    void seedIfEmpty() throws SQLException {
+        Long customers = context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM customers", Long.class);
+        if (customers != null && customers > 0) {
+            System.out.printf("Reusing %,d customers in %s%n", customers, config.database());
+            return;
+        }
+        System.out.printf("Seeding %,d customers and %,d transactions into %s%n",
+                config.customers(), config.transactions(), config.database());
+        String phoneHash = context.getBean(PasswordEncoder.class).encode(LoadTestConfig.PHONE_NO);
+        new DatasetGenerator(config).generate(context.getBean(DataSource.class), phoneHash);
+        context.getBean(RewardLedgerService.class).warm();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
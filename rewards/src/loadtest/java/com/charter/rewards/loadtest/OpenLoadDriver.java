@@ -0,0 +1,136 @@
+package com.charter.rewards.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-model load: requests start on a fixed schedule (Poisson or constant arrivals at the configured rate)
+// whether or not earlier ones have finished. Latency runs from the scheduled start, not the actual send, so a
+// stalled server or a late scheduler shows up in the percentiles instead of lowering the offered load
+// (no coordinated omission). Requests scheduled during the warmup are sent but not recorded.
+final class OpenLoadDriver {
+
+    // 1 ns to 1 h at 3 significant digits
+    private static final long HIGHEST_LATENCY = TimeUnit.HOURS.toNanos(1);
+
+    private final LoadTestConfig config;
+    private final Scenarios scenarios;
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenLoadDriver(LoadTestConfig config, Scenarios scenarios) {
+        this.config = config;
+        this.scenarios = scenarios;
+        config.mix().forEach((scenario, weight) -> {
+            if (weight > 0) {
+                stats.put(scenario, new Stats());
+            }
+        });
+    }
+
+    LoadReport run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(config.seed());
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(executor)
+                    .build();
+
+            long start = System.nanoTime();
+            long measureFrom = start + config.warmup().toNanos();
+            long end = measureFrom + config.duration().toNanos();
+            long next = start;
+            long lastProgress = start;
+            System.out.printf("Driving %.0f req/s for %s after %s warmup%n", config.rate(), config.duration(), config.warmup());
+
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                String scenario = scenarios.pick(random);
+                HttpRequest request = scenarios.request(scenario, random);
+                Stats scenarioStats = next >= measureFrom ? stats.get(scenario) : null;
+                long scheduled = next;
+
+                if (inFlight.get() >= config.maxInFlight()) {
+                    // The client is saturated; counted as an error rather than silently lowering the rate
+                    if (scenarioStats != null) {
+                        scenarioStats.record(-2, System.nanoTime() - scheduled);
+                    }
+                } else {
+                    inFlight.incrementAndGet();
+                    client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                        inFlight.decrementAndGet();
+                        if (scenarioStats != null) {
+                            scenarioStats.record(response != null ? response.statusCode() : -1, System.nanoTime() - scheduled);
+                        }
+                    });
+                }
+
+                next += config.poisson()
+                        ? (long) (-Math.log(1 - random.nextDouble()) * interval)
+                        : interval;
+                if (System.nanoTime() - lastProgress > TimeUnit.SECONDS.toNanos(10)) {
+                    lastProgress = System.nanoTime();
+                    System.out.printf("%3d s, %d in flight%n", TimeUnit.NANOSECONDS.toSeconds(lastProgress - start), inFlight.get());
+                }
+            }
+
+            // Let the last requests finish (they time out after --timeout at the latest)
+            long drainUntil = System.nanoTime() + config.timeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+            while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+                Thread.sleep(10);
+            }
+            executor.shutdownNow();
+        }
+        return new LoadReport(config, stats, config.duration());
+    }
+
+    // Per scenario: latency histogram and responses by status (-1 transport error, -2 not sent, client saturated)
+    static final class Stats {
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_LATENCY, 3);
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        void record(int status, long latencyNanos) {
+            latency.recordValue(Math.min(Math.max(1, latencyNanos), HIGHEST_LATENCY));
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+
+        long requests() {
+            return statuses.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        // Transport errors, unsent requests and 4xx/5xx
+        long errors() {
+            return statuses.entrySet().stream().filter(e -> e.getKey() < 200 || e.getKey() >= 400)
+                    .mapToLong(e -> e.getValue().sum()).sum();
+        }
+
+        Map<String, Long> statusCounts() {
+            Map<String, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(switch (status) {
+                case -1 -> "transport-error";
+                case -2 -> "not-sent";
+                default -> Integer.toString(status);
+            }, count.sum()));
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.charter.rewards.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// The requests of each scenario. Customers are drawn with the same skew as the generated activity,
+// so heavy users are also the most requested, as in production.
+final class Scenarios {
+
+    static final List<String> NAMES = List.of("rewards", "page", "transactions", "bulk", "authenticate", "create", "summary");
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final String[] scenarios;
+    private final double[] weights;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private long created;
+
+    Scenarios(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        List<Map.Entry<String, Integer>> active = config.mix().entrySet().stream().filter(e -> e.getValue() > 0).toList();
+        if (active.isEmpty()) {
+            throw new IllegalArgumentException("--mix has no scenario with a positive weight");
+        }
+        this.scenarios = new String[active.size()];
+        this.weights = new double[active.size()];
+        double cumulative = 0;
+        for (int i = 0; i < active.size(); i++) {
+            scenarios[i] = active.get(i).getKey();
+            cumulative += active.get(i).getValue();
+            weights[i] = cumulative;
+        }
+    }
+
+    String pick(SplittableRandom random) {
+        return scenarios[DatasetGenerator.pick(weights, random)];
+    }
+
+    // Called from the single scheduling thread only
+    HttpRequest request(String scenario, SplittableRandom random) {
+        return switch (scenario) {
+            case "rewards" -> {
+                // A 3 to 12 month range, not month-aligned, inside the generated window
+                int length = 3 + random.nextInt(Math.max(1, Math.min(12, config.months()) - 2));
+                LocalDate start = config.startDate().plusMonths(random.nextInt(Math.max(1, config.months() - length + 1)))
+                        .plusDays(random.nextInt(28));
+                LocalDate end = start.plusMonths(length).minusDays(1);
+                yield get("/api/rewards/customers/" + customer(random) + "/rewards?startDate=" + start
+                        + "&endDate=" + (end.isAfter(config.endDate()) ? config.endDate() : end));
+            }
+            case "page" -> get("/api/rewards/customers/" + customer(random) + "/transactions?limit=50");
+            case "transactions" -> get("/api/rewards/customers/" + customer(random) + "/transactions");
+            case "summary" -> get("/api/rewards/summary/stream");
+            case "bulk" -> {
+                StringBuilder body = new StringBuilder("[");
+                for (int i = 0; i < 20; i++) {
+                    body.append(i == 0 ? "" : ",")
+                            .append("{\"customerId\":").append(customer(random))
+                            .append(",\"date\":\"").append(day(random))
+                            .append("\",\"product\":\"Load\",\"amount\":").append(amount(random)).append('}');
+                }
+                yield post("/api/rewards/transactions/bulk", body.append(']').toString());
+            }
+            case "authenticate" -> post("/customer/authenticate",
+                    "{\"custName\":\"Customer " + customer(random) + "\",\"phoneNo\":\"" + LoadTestConfig.PHONE_NO + "\"}");
+            case "create" -> {
+                StringBuilder body = new StringBuilder("{\"custName\":\"Load " + runId + "-" + (++created)
+                        + "\",\"phoneNo\":\"" + LoadTestConfig.PHONE_NO + "\",\"transactions\":[");
+                for (int i = 0; i < 5; i++) {
+                    body.append(i == 0 ? "" : ",")
+                            .append("{\"date\":\"").append(day(random))
+                            .append("\",\"product\":\"Load\",\"amount\":").append(amount(random)).append('}');
+                }
+                yield post("/api/rewards/customers", body.append("]}").toString());
+            }
+            default -> throw new IllegalArgumentException("Unknown scenario " + scenario);
+        };
+    }
+
+    private long customer(SplittableRandom random) {
+        return Math.min(config.customers(), 1 + (long) (config.customers() * Math.pow(random.nextDouble(), config.customerSkew())));
+    }
+
+    private LocalDate day(SplittableRandom random) {
+        return config.endDate().minusDays(random.nextInt(30));
+    }
+
+    private static String amount(SplittableRandom random) {
+        return String.format(Locale.ROOT, "%.2f",
+                Math.min(5000, Math.max(1, Math.exp(Math.log(60) + 0.75 * random.nextGaussian()))));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(config.timeout())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(config.timeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,197 @@
+package com.charter.rewards.aggregation;
+
+import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.mapper.RewardMapper;
+import com.charter.rewards.util.RewardPointsCalculator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+// Points, DTOs and monthly totals for a customer's transactions. Below the threshold it is the plain
+// sequential loop; above it the list is split into slices on a dedicated ForkJoinPool. Each slice fills
+// its own range of the DTO array and its own month map, and the maps are merged left to right, so the
+// result (including HashMap iteration order) is identical to the sequential one.
+@Component
+public class RewardAggregator implements DisposableBean {
+
+    private final RewardMapper mapper;
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int sliceSize;
+    private final DistributionSummary batchSize;
+
+    public RewardAggregator(RewardMapper mapper,
+                            @Value("${rewards.aggregation.parallelism:0}") int parallelism,
+                            @Value("${rewards.aggregation.parallel-threshold:20000}") int threshold,
+                            @Value("${rewards.aggregation.slice-size:4096}") int sliceSize,
+                            MeterRegistry meterRegistry) {
+        this.mapper = mapper;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.threshold = threshold;
+        this.sliceSize = Math.max(1, sliceSize);
+        this.batchSize = DistributionSummary.builder("rewards.points.batch.size")
+                .description("Amounts per RewardPointsCalculator.calculatePoints batch call")
+                .register(meterRegistry);
+    }
+
+    public record Aggregate(List<TransactionDTO> transactions, Map<String, Integer> monthlyRewards, int totalRewards) {
+    }
+
+    public record Points(int[] points, Map<String, Integer> monthlyRewards, int totalRewards) {
+    }
+
+    // monthly = false skips the month/total sums (they come from the rollup) and only builds the DTOs
+    public Aggregate aggregate(List<Transaction> transactions, boolean monthly) {
+        if (transactions.size() < threshold) {
+            return sequential(transactions, monthly);
+        }
+        TransactionDTO[] dtos = new TransactionDTO[transactions.size()];
+        Partial partial = pool.invoke(new SliceTask(transactions, dtos, 0, transactions.size(), monthly));
+
+        Map<String, Integer> monthlyRewards = null;
+        if (monthly) {
+            // Same put sequence as the sequential loop: keys in order of first occurrence
+            monthlyRewards = new HashMap<>();
+            for (Map.Entry<String, Integer> month : partial.months.entrySet()) {
+                monthlyRewards.put(month.getKey(), month.getValue());
+            }
+        }
+        return new Aggregate(new ArrayList<>(Arrays.asList(dtos)), monthlyRewards, partial.total);
+    }
+
+    // Points per transaction without DTOs (RewardRows). One month key per month rather than per row, added to
+    // the map in order of first occurrence, so monthlyRewards iterates exactly like the one from aggregate()
+    public Points rowPoints(List<Transaction> transactions, boolean monthly) {
+        int[] points = points(transactions, 0, transactions.size());
+        if (!monthly) {
+            return new Points(points, null, 0);
+        }
+        LinkedHashMap<Integer, int[]> months = new LinkedHashMap<>();
+        int lastMonth = Integer.MIN_VALUE;
+        int[] monthTotal = null;
+        int totalRewards = 0;
+        for (int i = 0; i < points.length; i++) {
+            LocalDate date = transactions.get(i).getDate();
+            int month = date.getYear() * 12 + date.getMonthValue() - 1;
+            if (month != lastMonth) {
+                monthTotal = months.computeIfAbsent(month, m -> new int[1]);
+                lastMonth = month;
+            }
+            monthTotal[0] += points[i];
+            totalRewards += points[i];
+        }
+        Map<String, Integer> monthlyRewards = new HashMap<>();
+        months.forEach((month, total) ->
+                monthlyRewards.put(YearMonth.of(Math.floorDiv(month, 12), Math.floorMod(month, 12) + 1).toString(), total[0]));
+        return new Points(points, monthlyRewards, totalRewards);
+    }
+
+    // Applies fn to every item, in parallel once the total work (e.g. transactions across the items)
+    // reaches the threshold; results keep the order of items
+    public <T, R> List<R> mapInOrder(List<T> items, long work, Function<T, R> fn) {
+        if (work < threshold || items.size() < 2) {
+            List<R> results = new ArrayList<>(items.size());
+            for (T item : items) {
+                results.add(fn.apply(item));
+            }
+            return results;
+        }
+        return pool.submit(() -> items.parallelStream().map(fn).toList()).join();
+    }
+
+    private Aggregate sequential(List<Transaction> transactions, boolean monthly) {
+        Map<String, Integer> monthlyRewards = monthly ? new HashMap<>() : null;
+        int totalRewards = 0;
+        List<TransactionDTO> dtos = new ArrayList<>(transactions.size());
+        int[] batch = points(transactions, 0, transactions.size());
+
+        for (int i = 0; i < batch.length; i++) {
+            Transaction tx = transactions.get(i);
+            int points = batch[i];
+            if (monthly) {
+                totalRewards += points;
+                String monthKey = YearMonth.from(tx.getDate()).toString();
+                monthlyRewards.put(monthKey, monthlyRewards.getOrDefault(monthKey, 0) + points);
+            }
+            dtos.add(mapper.toTransactionDTO(tx, points));
+        }
+        return new Aggregate(dtos, monthlyRewards, totalRewards);
+    }
+
+    // Points for transactions [from, to) in one batch call over their amounts in cents
+    private int[] points(List<Transaction> transactions, int from, int to) {
+        long[] cents = new long[to - from];
+        for (int i = from; i < to; i++) {
+            cents[i - from] = transactions.get(i).getAmountCents();
+        }
+        int[] points = new int[cents.length];
+        batchSize.record(cents.length);
+        RewardPointsCalculator.calculatePoints(cents, points, cents.length);
+        return points;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    // Month totals of one slice, keyed in order of first occurrence
+    private static final class Partial {
+        private final LinkedHashMap<String, Integer> months = new LinkedHashMap<>();
+        private int total;
+
+        private Partial merge(Partial right) {
+            right.months.forEach((month, points) -> months.merge(month, points, Integer::sum));
+            total += right.total;
+            return this;
+        }
+    }
+
+    private final class SliceTask extends RecursiveTask<Partial> {
+        private final List<Transaction> transactions;
+        private final TransactionDTO[] dtos;
+        private final int from;
+        private final int to;
+        private final boolean monthly;
+
+        private SliceTask(List<Transaction> transactions, TransactionDTO[] dtos, int from, int to, boolean monthly) {
+            this.transactions = transactions;
+            this.dtos = dtos;
+            this.from = from;
+            this.to = to;
+            this.monthly = monthly;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= sliceSize) {
+                Partial partial = new Partial();
+                int[] batch = points(transactions, from, to);
+                for (int i = from; i < to; i++) {
+                    Transaction tx = transactions.get(i);
+                    int points = batch[i - from];
+                    if (monthly) {
+                        partial.total += points;
+                        partial.months.merge(YearMonth.from(tx.getDate()).toString(), points, Integer::sum);
+                    }
+                    dtos[i] = mapper.toTransactionDTO(tx, points);
+                }
+                return partial;
+            }
+            int mid = (from + to) >>> 1;
+            SliceTask left = new SliceTask(transactions, dtos, from, mid, monthly);
+            left.fork();
+            Partial right = new SliceTask(transactions, dtos, mid, to, monthly).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.charter.rewards.columnar;
+
+import com.charter.rewards.util.RewardPointsCalculator;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+// Immutable column-per-field copy of the transactions table, sorted by customer then date:
+// customer id, epoch day, amount in cents and a dictionary-encoded product per row (24 bytes/row),
+// plus a customer index (first row of each customer). Columns are heap arrays or, when offHeap,
+// direct buffers outside the Java heap. A direct buffer holds at most 2^31 bytes, so about 268M rows.
+public final class ColumnarTransactions {
+
+    private final int size;
+    private final LongBuffer customerIds;
+    private final IntBuffer epochDays;
+    private final LongBuffer amountCents;
+    private final IntBuffer productIds;
+    private final String[] products;
+    private final long[] customerKeys;
+    private final int[] customerStarts;
+    private final boolean offHeap;
+
+    private ColumnarTransactions(Builder builder, boolean offHeap) {
+        this.size = builder.size;
+        this.offHeap = offHeap;
+        this.customerIds = offHeap ? directLongs(builder.customerIds, size) : LongBuffer.wrap(Arrays.copyOf(builder.customerIds, size));
+        this.epochDays = offHeap ? directInts(builder.epochDays, size) : IntBuffer.wrap(Arrays.copyOf(builder.epochDays, size));
+        this.amountCents = offHeap ? directLongs(builder.amountCents, size) : LongBuffer.wrap(Arrays.copyOf(builder.amountCents, size));
+        this.productIds = offHeap ? directInts(builder.productIds, size) : IntBuffer.wrap(Arrays.copyOf(builder.productIds, size));
+        this.products = builder.products.toArray(String[]::new);
+        this.customerKeys = Arrays.copyOf(builder.customerKeys, builder.customerCount);
+        this.customerStarts = Arrays.copyOf(builder.customerStarts, builder.customerCount + 1);
+        this.customerStarts[builder.customerCount] = size;
+    }
+
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int customerCount() {
+        return customerKeys.length;
+    }
+
+    public int productCount() {
+        return products.length;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    public long customerId(int row) {
+        return customerIds.get(row);
+    }
+
+    public LocalDate date(int row) {
+        return LocalDate.ofEpochDay(epochDays.get(row));
+    }
+
+    public long amountCents(int row) {
+        return amountCents.get(row);
+    }
+
+    public String product(int row) {
+        return products[productIds.get(row)];
+    }
+
+    // Binary search for the customer, then for the date range inside its rows
+    public RewardTotals rewards(long customerId, LocalDate from, LocalDate to) {
+        int c = Arrays.binarySearch(customerKeys, customerId);
+        if (c < 0) {
+            return new RewardTotals(customerId, new HashMap<>(), 0, 0);
+        }
+        int start = firstDayAtOrAfter(customerStarts[c], customerStarts[c + 1], (int) from.toEpochDay());
+        int end = firstDayAtOrAfter(start, customerStarts[c + 1], (int) to.toEpochDay() + 1);
+        return totals(customerId, start, end);
+    }
+
+    // Whole history of every customer, in customer id order
+    public List<RewardTotals> summary() {
+        List<RewardTotals> summary = new ArrayList<>(customerKeys.length);
+        for (int c = 0; c < customerKeys.length; c++) {
+            summary.add(totals(customerKeys[c], customerStarts[c], customerStarts[c + 1]));
+        }
+        return summary;
+    }
+
+    // Rows are in date order, so months arrive in order: the month key is only recomputed at month boundaries
+    private RewardTotals totals(long customerId, int start, int end) {
+        Map<String, Integer> monthlyRewards = new HashMap<>();
+        int total = 0;
+        int monthPoints = 0;
+        String month = null;
+        int nextMonthDay = Integer.MIN_VALUE;
+
+        for (int i = start; i < end; i++) {
+            int day = epochDays.get(i);
+            if (day >= nextMonthDay) {
+                if (month != null) {
+                    monthlyRewards.put(month, monthPoints);
+                }
+                YearMonth ym = YearMonth.from(LocalDate.ofEpochDay(day));
+                month = ym.toString();
+                nextMonthDay = (int) ym.plusMonths(1).atDay(1).toEpochDay();
+                monthPoints = 0;
+            }
+            int points = RewardPointsCalculator.calculatePointsFromCents(amountCents.get(i));
+            monthPoints += points;
+            total += points;
+        }
+        if (month != null) {
+            monthlyRewards.put(month, monthPoints);
+        }
+        return new RewardTotals(customerId, monthlyRewards, total, end - start);
+    }
+
+    private int firstDayAtOrAfter(int from, int to, int day) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (epochDays.get(mid) < day) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public long columnBytes() {
+        return (long) size * (Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES);
+    }
+
+    public long indexBytes() {
+        return (long) customerKeys.length * Long.BYTES + (long) customerStarts.length * Integer.BYTES;
+    }
+
+    // Compact (Latin-1) strings: ~40 bytes of String/array headers plus one byte per character
+    public long dictionaryBytes() {
+        long bytes = (long) products.length * Integer.BYTES;
+        for (String product : products) {
+            bytes += 40 + product.length();
+        }
+        return bytes;
+    }
+
+    private static LongBuffer directLongs(long[] values, int size) {
+        LongBuffer buffer = ByteBuffer.allocateDirect(size * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        buffer.put(values, 0, size);
+        return buffer.flip();
+    }
+
+    private static IntBuffer directInts(int[] values, int size) {
+        IntBuffer buffer = ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        buffer.put(values, 0, size);
+        return buffer.flip();
+    }
+
+    // Rows must be added ordered by customer id, then date
+    public static final class Builder {
+        private int size;
+        private long[] customerIds;
+        private int[] epochDays;
+        private long[] amountCents;
+        private int[] productIds;
+        private final Map<String, Integer> productDictionary = new HashMap<>();
+        private final List<String> products = new ArrayList<>();
+        private int customerCount;
+        private long[] customerKeys = new long[16];
+        private int[] customerStarts = new int[17];
+
+        private Builder(int expectedRows) {
+            int capacity = Math.max(16, expectedRows);
+            customerIds = new long[capacity];
+            epochDays = new int[capacity];
+            amountCents = new long[capacity];
+            productIds = new int[capacity];
+        }
+
+        public Builder add(long customerId, LocalDate date, double amount, String product) {
+            return addCents(customerId, date, Math.round(amount * 100), product);
+        }
+
+        public Builder addCents(long customerId, LocalDate date, long amountCents, String product) {
+            int day = (int) date.toEpochDay();
+            boolean newCustomer = customerCount == 0 || customerKeys[customerCount - 1] != customerId;
+            if (!newCustomer && day < epochDays[size - 1]
+                    || newCustomer && customerCount > 0 && customerId < customerKeys[customerCount - 1]) {
+                throw new IllegalArgumentException("Rows must be ordered by customer id, then date");
+            }
+            if (size == customerIds.length) {
+                grow();
+            }
+            if (newCustomer) {
+                if (customerCount == customerKeys.length) {
+                    customerKeys = Arrays.copyOf(customerKeys, customerCount * 2);
+                    customerStarts = Arrays.copyOf(customerStarts, customerCount * 2 + 1);
+                }
+                customerKeys[customerCount] = customerId;
+                customerStarts[customerCount++] = size;
+            }
+            customerIds[size] = customerId;
+            epochDays[size] = day;
+            this.amountCents[size] = amountCents;
+            productIds[size] = productDictionary.computeIfAbsent(product == null ? "" : product, p -> {
+                products.add(p);
+                return products.size() - 1;
+            });
+            size++;
+            return this;
+        }
+
+        public ColumnarTransactions build(boolean offHeap) {
+            return new ColumnarTransactions(this, offHeap);
+        }
+
+        private void grow() {
+            int capacity = customerIds.length + (customerIds.length >> 1);
+            customerIds = Arrays.copyOf(customerIds, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            amountCents = Arrays.copyOf(amountCents, capacity);
+            productIds = Arrays.copyOf(productIds, capacity);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.charter.rewards.columnar;
+
+import java.util.Map;
+
+// Points for one customer over a date range, computed from the columnar store
+public record RewardTotals(long customerId, Map<String, Integer> monthlyRewards, int totalRewards, int transactionCount) {
+}
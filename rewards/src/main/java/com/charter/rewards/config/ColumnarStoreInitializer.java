@@ -0,0 +1,24 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// First load of the columnar store; later loads via rewards.columnar.reload-cron or POST /admin/rewards/columnar/reload
+@Component
+@ConditionalOnProperty(name = "rewards.columnar.enabled", havingValue = "true")
+public class ColumnarStoreInitializer {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void loadColumnarStore() {
+        analyticsService.reload();
+    }
+}
@@ -0,0 +1,32 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.datasource.ConcurrencyLimitedDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Wraps the "dataSource" bean in a ConcurrencyLimitedDataSource; on by default in virtual-thread mode
+@Configuration
+@ConditionalOnProperty(name = "rewards.jdbc.limiter.enabled", havingValue = "true")
+public class DataSourceLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceLimiterPostProcessor(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                int maxConcurrent = env.getProperty("rewards.jdbc.limiter.max-concurrent", Integer.class, 10);
+                Duration acquireTimeout = env.getProperty("rewards.jdbc.limiter.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrent, acquireTimeout);
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.datasource.ReplicaLag;
+import com.charter.rewards.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Read/write splitting: "dataSource" opens its connection at the first statement, on the primary for read-write
+// transactions and on a replica (ReplicaRoutingDataSource) for @Transactional(readOnly = true) ones, including
+// the read-only Spring Data repository methods. Replaces the auto-configured pool when replicas are enabled.
+@Configuration
+@ConditionalOnProperty(name = "rewards.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    // spring.datasource.* and spring.datasource.hikari.*, as the auto-configured pool would be
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                      DataSourceProperties properties,
+                                                      @Value("${rewards.datasource.replicas.urls}") List<String> urls,
+                                                      @Value("${rewards.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                                      @Value("${rewards.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                                      @Value("${rewards.datasource.replicas.max-pool-size:10}") int maxPoolSize,
+                                                      @Value("${rewards.datasource.replicas.validation-timeout:2s}") Duration validationTimeout,
+                                                      @Value("${rewards.datasource.replicas.connection-timeout:1s}") Duration connectionTimeout,
+                                                      @Value("${rewards.datasource.replicas.max-lag:10s}") Duration maxLag,
+                                                      @Value("${rewards.datasource.replicas.lag-query:}") String lagQuery,
+                                                      @Value("${rewards.datasource.replicas.health-check-interval:5s}") Duration interval) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(maxPoolSize);
+            // A replica that stops answering costs a read this long before it falls through to the next one
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            // A replica that is down at startup is skipped, not fatal
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(name, replica);
+        }
+        ReplicaLag lag = lagQuery.isBlank() ? ReplicaLag.replicaStatus() : ReplicaLag.query(lagQuery);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replicas, validationTimeout, lag, maxLag);
+        dataSource.startHealthChecks(interval);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
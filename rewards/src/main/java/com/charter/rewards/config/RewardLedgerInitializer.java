@@ -0,0 +1,24 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.service.RewardLedgerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Loads the reward ledger once the rollup is in place; until then reads fall back to the database
+@Component
+@ConditionalOnProperty(name = "rewards.ledger.enabled", havingValue = "true")
+public class RewardLedgerInitializer {
+
+    @Autowired
+    private RewardLedgerService ledgerService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void initializeLedger() {
+        ledgerService.warm();
+    }
+}
@@ -0,0 +1,24 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.service.RewardRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Builds the monthly rollup on first start against a database that already has transactions
+@Component
+@ConditionalOnProperty(name = "rewards.rollup.rebuild-on-empty", havingValue = "true", matchIfMissing = true)
+public class RewardRollupInitializer {
+
+    @Autowired
+    private RewardRollupService rollupService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void initializeRollup() {
+        rollupService.rebuildIfEmpty();
+    }
+}
@@ -1,17 +1,27 @@
 package com.charter.rewards.config;
 
+import com.charter.rewards.security.BoundedPasswordEncoder;
 import com.charter.rewards.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class SecurityConfig {
@@ -19,9 +29,30 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // BCrypt work factor for new hashes; existing hashes keep the cost they were created with
+    @Value("${rewards.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${rewards.security.bcrypt.threads:2}")
+    private int bcryptThreads;
+
+    @Value("${rewards.security.bcrypt.queue-capacity:50}")
+    private int bcryptQueueCapacity;
+
+    @Value("${rewards.security.bcrypt.timeout:5s}")
+    private Duration bcryptTimeout;
+
+    @Value("${rewards.security.bcrypt.retry-after-seconds:1}")
+    private long bcryptRetryAfterSeconds;
+
+    // Prometheus scrapes /actuator/prometheus from these addresses/subnets without a token
+    @Value("${rewards.metrics.scrape-addresses:127.0.0.1,::1}")
+    private List<String> scrapeAddresses;
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), bcryptThreads,
+                bcryptQueueCapacity, bcryptTimeout, bcryptRetryAfterSeconds, meterRegistry);
     }
 
     @Bean
@@ -35,11 +66,28 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/auth/**", "/api/rewards/**","/customer/authenticate").permitAll()  // public
+                .requestMatchers("/auth/**", "/api/rewards/**","/customer/authenticate", "/actuator/health").permitAll()  // public
+                .requestMatchers("/actuator/prometheus").access(scraperOrAuthenticated())
+                // Full rollup rebuild: customers sign themselves up, so an authenticated caller is not enough
+                .requestMatchers("/admin/rewards/rollup/**").hasRole("ADMIN")
+                .requestMatchers("/admin/rewards/ledger/**").hasRole("ADMIN")
+                .requestMatchers("/admin/rewards/columnar/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    // Any other client still needs the bearer token
+    private AuthorizationManager<RequestAuthorizationContext> scraperOrAuthenticated() {
+        List<IpAddressMatcher> scrapers = scrapeAddresses.stream().map(String::trim).map(IpAddressMatcher::new).toList();
+        AuthorizationManager<RequestAuthorizationContext> authenticated = AuthenticatedAuthorizationManager.authenticated();
+        return (authentication, context) -> {
+            if (scrapers.stream().anyMatch(scraper -> scraper.matches(context.getRequest()))) {
+                return new AuthorizationDecision(true);
+            }
+            return authenticated.check(authentication, context);
+        };
+    }
 }
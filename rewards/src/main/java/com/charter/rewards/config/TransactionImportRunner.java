@@ -0,0 +1,49 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.service.TransactionImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.nio.file.Path;
+
+// Backfill: java -jar rewards.jar --rewards.import.file=/data/transactions.csv --rewards.import.exit-when-done=true
+// Runs after RewardRollupInitializer so an empty rollup is rebuilt before imported rows are added to it
+@Component
+@ConditionalOnProperty(name = "rewards.import.file")
+public class TransactionImportRunner {
+
+    @Autowired
+    private TransactionImportService importService;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Value("${rewards.import.file}")
+    private Path file;
+
+    @Value("${rewards.import.exit-when-done:false}")
+    private boolean exitWhenDone;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void importFile() throws IOException {
+        boolean failed = true;
+        try {
+            importService.importFile(file);
+            failed = false;
+        } finally {
+            if (exitWhenDone) {
+                int code = failed ? 1 : 0;
+                System.exit(SpringApplication.exit(context, () -> code));
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.service.TransactionPartitionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Adds the months ahead at startup as well as on rewards.partitions.cron, before any import runs
+@Component
+public class TransactionPartitionInitializer {
+
+    @Autowired
+    private TransactionPartitionService partitionService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void initializePartitions() {
+        partitionService.createPartitionsAhead();
+    }
+}
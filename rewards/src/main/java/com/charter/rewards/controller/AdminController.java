@@ -0,0 +1,38 @@
+package com.charter.rewards.controller;
+
+import com.charter.rewards.dto.LedgerCheckDTO;
+import com.charter.rewards.service.RewardLedgerService;
+import com.charter.rewards.service.RewardRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+// Maintenance operations; outside /api/rewards, and restricted to ROLE_ADMIN (rewards.security.admins) in SecurityConfig
+@RestController
+@RequestMapping("/admin/rewards")
+public class AdminController {
+
+    @Autowired
+    private RewardRollupService rollupService;
+
+    @Autowired
+    private RewardLedgerService ledgerService;
+
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRollup() {
+        return ResponseEntity.ok(Map.of("rollupRows", rollupService.rebuild()));
+    }
+
+    // Compares the in-memory ledger with points recomputed from the transactions table
+    @GetMapping("/ledger/check")
+    public ResponseEntity<LedgerCheckDTO> checkLedger() {
+        return ResponseEntity.ok(ledgerService.check(false));
+    }
+
+    // Same comparison, then replaces the ledger with the recomputed totals
+    @PostMapping("/ledger/repair")
+    public ResponseEntity<LedgerCheckDTO> repairLedger() {
+        return ResponseEntity.ok(ledgerService.check(true));
+    }
+}
@@ -0,0 +1,43 @@
+package com.charter.rewards.controller;
+
+import com.charter.rewards.dto.ColumnarStatsDTO;
+import com.charter.rewards.dto.RewardTotalsDTO;
+import com.charter.rewards.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.util.List;
+
+// Totals-only reward queries over the columnar store (rewards.columnar.enabled); no transaction lists
+@RestController
+@ConditionalOnProperty(name = "rewards.columnar.enabled", havingValue = "true")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @GetMapping("/api/rewards/analytics/customers/{customerId}/rewards")
+    public ResponseEntity<RewardTotalsDTO> getRewardTotals(@PathVariable Long customerId,
+                                                           @RequestParam("startDate") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+                                                           @RequestParam("endDate") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+        return ResponseEntity.ok(analyticsService.getRewardTotals(customerId, startDate, endDate));
+    }
+
+    @GetMapping("/api/rewards/analytics/summary")
+    public ResponseEntity<List<RewardTotalsDTO>> getRewardTotalsSummary() {
+        return ResponseEntity.ok(analyticsService.getRewardTotalsSummary());
+    }
+
+    @GetMapping("/admin/rewards/columnar/stats")
+    public ResponseEntity<ColumnarStatsDTO> getStats() {
+        return ResponseEntity.ok(analyticsService.getStats());
+    }
+
+    @PostMapping("/admin/rewards/columnar/reload")
+    public ResponseEntity<ColumnarStatsDTO> reload() {
+        return ResponseEntity.ok(analyticsService.reload());
+    }
+}
@@ -1,37 +1,102 @@
 package com.charter.rewards.controller;
+import com.charter.rewards.dto.BulkTransactionResponseDTO;
 import com.charter.rewards.dto.CustomerDTO;
 import com.charter.rewards.dto.CustomerResponseDTO;
-import com.charter.rewards.dto.RewardResponseDTO;
+import com.charter.rewards.dto.RewardRows;
 import com.charter.rewards.dto.SummaryResponseDTO;
 import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.dto.TransactionPageDTO;
+import com.charter.rewards.dto.TransactionRequestDTO;
+import com.charter.rewards.service.CustomerVersionService;
 import com.charter.rewards.service.RewardService;
+import com.charter.rewards.service.TransactionIngestService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate; import java.util.List;
 @RestController
 @RequestMapping("/api/rewards")
 public class RewardController {
 @Autowired
-private RewardService rewardService; //Create customer with transactions
+private RewardService rewardService;
+@Autowired
+private ObjectMapper objectMapper;
+@Autowired
+private CustomerVersionService customerVersionService;
+@Autowired
+private TransactionIngestService transactionIngestService; //Create customer with transactions
 @PostMapping("/customers")
 public ResponseEntity<CustomerResponseDTO> createCustomer(@RequestBody CustomerDTO customerDTO) {
 CustomerResponseDTO response = rewardService.createCustomer(customerDTO);
 return ResponseEntity.ok(response);
 }
+//Bulk insert transactions for existing customers; invalid rows are reported per index and skipped
+@PostMapping("/transactions/bulk")
+public ResponseEntity<BulkTransactionResponseDTO> ingestTransactions(@RequestBody List<TransactionRequestDTO> transactions) {
+return ResponseEntity.ok(transactionIngestService.ingest(transactions));
+}
+//Customer GETs carry the customer's ledger version as ETag; a matching If-None-Match gets 304 without loading the body
 @GetMapping("/customers/{customerId}/transactions")
-public ResponseEntity<List<TransactionDTO>> getCustomerTransactions(@PathVariable Long customerId) {
+public ResponseEntity<List<TransactionDTO>> getCustomerTransactions(@PathVariable Long customerId, WebRequest webRequest) {
+if (notModified(rewardService.getCachedTransactionsVersion(customerId), customerId, webRequest)) {
+return null;
+}
 return ResponseEntity.ok(rewardService.getCustomerTransactions(customerId));
 }
+//Page through a customer's transactions in (date, id) order; pass nextCursor back as "after" for the next page
+@GetMapping(value = "/customers/{customerId}/transactions", params = "limit")
+public ResponseEntity<TransactionPageDTO> getCustomerTransactionsPage(@PathVariable Long customerId, @RequestParam("limit") int limit, @RequestParam(value = "after", required = false) String after, WebRequest webRequest) {
+if (notModified(null, customerId, webRequest)) {
+return null;
+}
+return ResponseEntity.ok(rewardService.getCustomerTransactions(customerId, limit, after));
+}
 //Get reward summary for ALL customers (all transactions)
 @GetMapping("/summary")
 public ResponseEntity<List<SummaryResponseDTO>> getRewardSummary() {
 return ResponseEntity.ok(rewardService.getRewardSummary());
 }
-//Get rewards for a given customer within timeframe
+//Stream reward summary for ALL customers as NDJSON, one customer per line, written as each customer is ready
+@GetMapping(value = "/summary/stream", produces = "application/x-ndjson")
+public ResponseEntity<StreamingResponseBody> streamRewardSummary() {
+ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+StreamingResponseBody body = out -> {
+try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+generator.setRootValueSeparator(null);
+rewardService.streamRewardSummary(summary -> {
+try {
+writer.writeValue(generator, summary);
+generator.writeRaw('\n');
+} catch (IOException e) {
+throw new UncheckedIOException(e);
+}
+});
+}
+};
+return ResponseEntity.ok(body);
+}
+//Get rewards for a given customer within timeframe; written by RewardJsonWriter as the RewardResponseDTO JSON
 @GetMapping("/customers/{customerId}/rewards")
-public ResponseEntity<RewardResponseDTO> getRewardsForCustomer( @PathVariable Long customerId, @RequestParam("startDate")@DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate, @RequestParam("endDate") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
-return ResponseEntity.ok( rewardService.getRewardsForCustomer(customerId, startDate, endDate) );
+public ResponseEntity<RewardRows> getRewardsForCustomer( @PathVariable Long customerId, @RequestParam("startDate")@DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate, @RequestParam("endDate") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate, WebRequest webRequest) {
+if (notModified(rewardService.getCachedRewardsVersion(customerId, startDate, endDate), customerId, webRequest)) {
+return null;
+}
+return ResponseEntity.ok( rewardService.getRewardRowsForCustomer(customerId, startDate, endDate) );
+}
+//Sets the ETag and answers 304 when it matches; no ETag for unknown customers or while a change commits.
+//The version comes from the cached response when there is one (pages are not cached), otherwise from the database.
+//Weak: one version covers the JSON/CBOR/Smile and gzip representations (Tomcat never compresses a strong ETag)
+private boolean notModified(Long cachedVersion, Long customerId, WebRequest webRequest) {
+Long version = cachedVersion != null ? cachedVersion : customerVersionService.getVersion(customerId);
+return version != null && webRequest.checkNotModified("W/\"" + version + "\"");
 }
 }
@@ -0,0 +1,30 @@
+package com.charter.rewards.datasource;
+
+import java.util.function.Supplier;
+
+// Thread-bound override of replica routing: read-only connections opened inside onPrimary(...) come from the
+// primary. Connections are opened lazily, at a transaction's first statement, so this has to wrap the
+// transactional call; a connection the thread already holds is not switched.
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (PRIMARY.get() != null) {
+            return work.get();
+        }
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY.remove();
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY.get() != null;
+    }
+}
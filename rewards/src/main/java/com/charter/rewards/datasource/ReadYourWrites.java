@@ -0,0 +1,64 @@
+package com.charter.rewards.datasource;
+
+import com.charter.rewards.event.CustomerChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// With read replicas, reads about a customer go to the primary for rewards.datasource.replicas.read-your-writes
+// after a change to that customer, so neither the customer nor a cache reloading after the change reads a replica
+// that has not caught up yet. Without replicas every read runs as is.
+@Component
+public class ReadYourWrites {
+
+    // Null when replicas are off
+    private final Cache<Long, Boolean> customerIds;
+    private final Cache<String, Boolean> custNames;
+
+    @Autowired
+    public ReadYourWrites(@Value("${rewards.datasource.replicas.enabled:false}") boolean replicasEnabled,
+                          @Value("${rewards.datasource.replicas.read-your-writes:5s}") Duration window) {
+        this(replicasEnabled ? window : Duration.ZERO, Ticker.systemTicker());
+    }
+
+    ReadYourWrites(Duration window, Ticker ticker) {
+        this.customerIds = window.isPositive() ? recent(window, ticker) : null;
+        this.custNames = window.isPositive() ? recent(window, ticker) : null;
+    }
+
+    // Before the commit, so the window is open by the time the caches drop the customer after it
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (customerIds == null) {
+            return;
+        }
+        if (event.customerId() != null) {
+            customerIds.put(event.customerId(), Boolean.TRUE);
+        }
+        if (event.custName() != null) {
+            custNames.put(event.custName(), Boolean.TRUE);
+        }
+    }
+
+    public <T> T forCustomer(Long customerId, Supplier<T> read) {
+        return customerIds != null && customerIds.getIfPresent(customerId) != null ? ReadRouting.onPrimary(read) : read.get();
+    }
+
+    public <T> T forCustomerName(String custName, Supplier<T> read) {
+        return custNames != null && custNames.getIfPresent(custName) != null ? ReadRouting.onPrimary(read) : read.get();
+    }
+
+    private static <K> Cache<K, Boolean> recent(Duration window, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .ticker(ticker)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.charter.rewards.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+// How far a replica is behind the primary, measured on one of its connections by the health check.
+// null means the lag is unknown (replication stopped, no heartbeat yet); such a replica is treated as down.
+@FunctionalInterface
+public interface ReplicaLag {
+
+    Duration measure(Connection connection, int timeoutSeconds) throws SQLException;
+
+    // Seconds_Behind_Source of SHOW REPLICA STATUS (MySQL 8.0.22+); needs the REPLICATION CLIENT privilege
+    static ReplicaLag replicaStatus() {
+        return (connection, timeoutSeconds) -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(timeoutSeconds);
+                try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    long seconds = rs.getLong("Seconds_Behind_Source");
+                    return rs.wasNull() ? null : Duration.ofSeconds(seconds);
+                }
+            }
+        };
+    }
+
+    // A query returning the lag in seconds, typically the age of the newest row of a heartbeat table that the
+    // primary updates (e.g. pt-heartbeat)
+    static ReplicaLag query(String sql) {
+        return (connection, timeoutSeconds) -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(timeoutSeconds);
+                try (ResultSet rs = statement.executeQuery(sql)) {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    double seconds = rs.getDouble(1);
+                    return rs.wasNull() ? null : Duration.ofMillis(Math.round(seconds * 1000));
+                }
+            }
+        };
+    }
+}
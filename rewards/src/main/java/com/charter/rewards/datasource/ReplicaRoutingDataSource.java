@@ -0,0 +1,212 @@
+package com.charter.rewards.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Read-only connections from a pool of replicas, round-robin over the healthy ones; the read-only target of the
+// LazyConnectionDataSourceProxy in front of the primary. A replica that fails to hand out a connection is skipped
+// until checkHealth() finds it valid again. checkHealth() also takes a replica out while its replication lag is
+// above maxLag, or unknown. With every replica down, or inside ReadRouting.onPrimary(...), the connection comes from
+// the primary.
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final int validationTimeoutSeconds;
+    private final ReplicaLag lag;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile Counter primaryRequired;
+    private volatile Counter noReplica;
+    private ScheduledExecutorService healthChecks;
+
+    // A zero or negative maxLag turns the lag check off
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration validationTimeout,
+                                    ReplicaLag lag, Duration maxLag) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+        this.lag = lag;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (ReadRouting.isPrimaryRequired()) {
+            increment(primaryRequired);
+            return opener.open(primary);
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                increment(replica.connections);
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown("unavailable", e);
+            }
+        }
+        increment(noReplica);
+        return opener.open(primary);
+    }
+
+    // Validates every replica and checks its lag; runs every health-check-interval (startHealthChecks)
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    replica.markDown("failed validation", null);
+                    continue;
+                }
+                if (!maxLag.isPositive()) {
+                    replica.markUp();
+                    continue;
+                }
+                Duration behind = lag.measure(connection, validationTimeoutSeconds);
+                replica.lagSeconds = behind == null ? Double.NaN : behind.toMillis() / 1000.0;
+                if (behind == null) {
+                    replica.markDown("replication lag unknown", null);
+                } else if (behind.compareTo(maxLag) > 0) {
+                    replica.markDown("replication lag " + behind.toMillis() + " ms", null);
+                } else {
+                    replica.markUp();
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown("unavailable", e);
+            }
+        }
+    }
+
+    // On a thread of its own, so a slow replica (connection and query timeouts) never delays @Scheduled jobs
+    public synchronized void startHealthChecks(Duration interval) {
+        if (healthChecks != null) {
+            return;
+        }
+        healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // checkHealth() catches per replica, so no run throws and cancels the schedule
+        healthChecks.scheduleWithFixedDelay(this::checkHealth, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    // Stops the health checks and closes the replica pools; the primary belongs to the caller
+    @Override
+    public synchronized void close() {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Closing replica {} failed", replica.name, e);
+                }
+            }
+        }
+    }
+
+    public long getHealthyReplicas() {
+        return replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("rewards.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("1 while the replica is handing out connections")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("rewards.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replication lag seen by the last health check, NaN when unknown")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            replica.connections = Counter.builder("rewards.datasource.replica.connections")
+                    .description("Read-only connections opened on the replica")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+        primaryRequired = Counter.builder("rewards.datasource.replica.primary")
+                .description("Read-only connections opened on the primary")
+                .tag("reason", "read-your-writes")
+                .register(registry);
+        noReplica = Counter.builder("rewards.datasource.replica.primary")
+                .description("Read-only connections opened on the primary")
+                .tag("reason", "no-healthy-replica")
+                .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile double lagSeconds;
+        private volatile Counter connections;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Replica {} is back, reads are routed to it again", name);
+            }
+        }
+
+        private void markDown(String reason, Exception cause) {
+            if (healthy) {
+                healthy = false;
+                log.error("Replica {} is out ({}), reads go to the other replicas or the primary", name, reason, cause);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,11 @@
+package com.charter.rewards.dto;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class BulkTransactionResponseDTO {
+	private int received;
+	private int inserted;
+	private List<TransactionRowErrorDTO> errors;
+}
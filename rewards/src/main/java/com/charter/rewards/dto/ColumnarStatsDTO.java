@@ -0,0 +1,19 @@
+package com.charter.rewards.dto;
+
+import java.time.LocalDateTime;
+import lombok.Data;
+
+@Data
+public class ColumnarStatsDTO {
+	private int rows;
+	private int customers;
+	private int products;
+	private boolean offHeap;
+	private long columnBytes;
+	private long indexBytes;
+	private long dictionaryBytes;
+	private long totalBytes;
+	private long bytesPerMillionRows;
+	private long loadMs;
+	private LocalDateTime loadedAt;
+}
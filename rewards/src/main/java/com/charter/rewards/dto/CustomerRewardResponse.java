@@ -0,0 +1,14 @@
+package com.charter.rewards.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// Fields shared by the per-customer reward responses (SummaryResponseDTO, RewardResponseDTO)
+public interface CustomerRewardResponse {
+    void setCustomerId(Long customerId);
+    void setCustName(String custName);
+    void setPhoneNo(String phoneNo);
+    void setMonthlyRewards(Map<String, Integer> monthlyRewards);
+    void setTotalRewards(Integer totalRewards);
+    void setTransactions(List<TransactionDTO> transactions);
+}
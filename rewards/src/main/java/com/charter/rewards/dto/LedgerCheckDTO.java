@@ -0,0 +1,14 @@
+package com.charter.rewards.dto;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class LedgerCheckDTO {
+	private boolean consistent;
+	private boolean repaired;
+	private int customersChecked;
+	private int mismatchCount;
+	private List<LedgerMismatchDTO> mismatches;
+	private long elapsedMs;
+}
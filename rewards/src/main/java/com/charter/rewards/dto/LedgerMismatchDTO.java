@@ -0,0 +1,15 @@
+package com.charter.rewards.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerMismatchDTO {
+	private Long customerId;
+	private String month;
+	private Integer ledgerPoints;
+	private Integer databasePoints;
+}
@@ -3,7 +3,7 @@ package com.charter.rewards.dto;
 import java.util.*;
 import lombok.Data;
 @Data
-public class RewardResponseDTO {
+public class RewardResponseDTO implements CustomerRewardResponse {
 	private Long customerId;
 	private String custName;
 	private String phoneNo;
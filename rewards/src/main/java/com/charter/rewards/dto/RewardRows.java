@@ -0,0 +1,23 @@
+package com.charter.rewards.dto;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// A RewardResponseDTO before mapping: the customer's transaction rows with their points, written as the same
+// JSON by RewardJsonWriter without building a TransactionDTO per row. Immutable and detached from the
+// persistence context, so CachingRewardService can hand one instance to concurrent requests
+public record RewardRows(Long customerId, String custName, String phoneNo, Map<String, Integer> monthlyRewards,
+                         int totalRewards, List<Row> rows, LocalDate startDate, LocalDate endDate) {
+
+    public RewardRows {
+        // LinkedHashMap keeps the caller's iteration order, which RewardJsonWriter reproduces
+        monthlyRewards = monthlyRewards == null ? null : Collections.unmodifiableMap(new LinkedHashMap<>(monthlyRewards));
+        rows = List.copyOf(rows);
+    }
+
+    public record Row(LocalDate date, long amountCents, String product, int rewardPoints) {
+    }
+}
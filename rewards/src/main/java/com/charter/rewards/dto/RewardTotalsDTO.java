@@ -0,0 +1,12 @@
+package com.charter.rewards.dto;
+
+import java.util.Map;
+import lombok.Data;
+
+@Data
+public class RewardTotalsDTO {
+	private Long customerId;
+	private Map<String, Integer> monthlyRewards;
+	private Integer totalRewards;
+	private Integer transactionCount;
+}
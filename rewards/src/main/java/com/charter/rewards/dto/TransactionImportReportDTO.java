@@ -0,0 +1,14 @@
+package com.charter.rewards.dto;
+
+import lombok.Data;
+
+@Data
+public class TransactionImportReportDTO {
+	private String file;
+	private long resumedFromLine;
+	private long lastLine;
+	private long inserted;
+	private long rejected;
+	private long elapsedMs;
+	private double rowsPerSecond;
+}
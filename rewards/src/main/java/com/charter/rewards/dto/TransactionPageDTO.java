@@ -0,0 +1,11 @@
+package com.charter.rewards.dto;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class TransactionPageDTO {
+	private List<TransactionDTO> transactions;
+	// Pass as "after" to get the next page; null on the last page
+	private String nextCursor;
+}
@@ -0,0 +1,14 @@
+package com.charter.rewards.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionRowErrorDTO {
+	private int index;
+	private Long customerId;
+	private String error;
+}
@@ -0,0 +1,20 @@
+package com.charter.rewards.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Maps the DECIMAL(10,2) amount column to whole cents. The driver hands back a double, which is exact
+// enough for a 2-decimal value of this size that rounding recovers the stored cents without a BigDecimal.
+@Converter
+public class AmountCentsConverter implements AttributeConverter<Long, Double> {
+
+    @Override
+    public Double convertToDatabaseColumn(Long cents) {
+        return cents == null ? null : cents / 100.0;
+    }
+
+    @Override
+    public Long convertToEntityAttribute(Double amount) {
+        return amount == null ? null : Math.round(amount * 100);
+    }
+}
@@ -7,13 +7,18 @@ import java.util.List;
 
 @Data
 @Entity
-@Table(name = "customers")
+@Table(name = "customers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_customers_cust_name", columnNames = "cust_name"))
 public class Customer {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    @Column(name = "cust_name", nullable = false)
     private String custName;
     private String phoneNo;
+    // Bumped with a bulk update when transactions are added (CustomerVersionService), never written from the entity
+    @Column(name = "ledger_version", nullable = false, insertable = false, updatable = false)
+    private long ledgerVersion;
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Transaction> transactions;
     
@@ -0,0 +1,23 @@
+package com.charter.rewards.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Per customer, per month reward rollup kept in step with the transactions table
+@Data
+@Entity
+@Table(name = "customer_monthly_rewards")
+@IdClass(CustomerMonthlyRewardId.class)
+public class CustomerMonthlyReward {
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+    // yyyy-MM, same key format as monthlyRewards in the responses
+    @Id
+    @Column(name = "reward_month", length = 7, columnDefinition = "CHAR(7)")
+    private String rewardMonth;
+    private Integer points;
+    private Integer txCount;
+    @Column(name = "amount_sum_cents")
+    private long amountSumCents;
+}
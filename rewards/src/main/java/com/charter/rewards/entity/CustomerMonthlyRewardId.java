@@ -0,0 +1,15 @@
+package com.charter.rewards.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerMonthlyRewardId implements Serializable {
+    private Long customerId;
+    private String rewardMonth;
+}
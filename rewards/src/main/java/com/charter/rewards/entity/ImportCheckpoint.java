@@ -0,0 +1,20 @@
+package com.charter.rewards.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Last committed line of a transaction import file, keyed by the file's absolute path
+@Data
+@Entity
+@Table(name = "import_checkpoints")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportCheckpoint {
+    @Id
+    @Column(name = "file_path", length = 512)
+    private String filePath;
+    @Column(name = "last_line", nullable = false)
+    private long lastLine;
+}
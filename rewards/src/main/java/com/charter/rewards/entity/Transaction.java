@@ -1,5 +1,6 @@
 package com.charter.rewards.entity;
 
+import com.charter.rewards.ledger.TransactionLedgerListener;
 import jakarta.persistence.*;
 import lombok.Data;
 
@@ -7,17 +8,35 @@ import java.time.LocalDate;
 
 @Data
 @Entity
-@Table(name = "transactions")
+// Schema lives in db/migration; on MySQL the table is range-partitioned by month of date.
+// The (customer_id, date, id, ...) index covers date-range reads and the keyset-paginated listing.
+@Table(name = "transactions",
+        indexes = @Index(name = "idx_transactions_customer_date_id", columnList = "customer_id, date, id, amount, product"))
+@EntityListeners(TransactionLedgerListener.class)
 public class Transaction {
+    // Pooled sequence (table-backed on MySQL): ids are allocated 50 at a time, so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
     private LocalDate date;
     private String product;
-    private Double amount;
+    // Money is carried as whole cents; the column stays DECIMAL(10,2) and the converter maps it at the JDBC boundary
+    @Convert(converter = AmountCentsConverter.class)
+    @Column(name = "amount", nullable = false, columnDefinition = "DECIMAL(10,2)")
+    private long amountCents;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
+
+    // Dollar view of amountCents for the DTO mapping and callers that still work in dollars
+    public Double getAmount() {
+        return amountCents / 100.0;
+    }
+
+    public void setAmount(Double amount) {
+        this.amountCents = Math.round(amount * 100);
+    }
 }
 
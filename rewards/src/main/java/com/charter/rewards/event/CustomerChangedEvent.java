@@ -0,0 +1,5 @@
+package com.charter.rewards.event;
+
+// Published whenever a customer's profile or transactions change
+public record CustomerChangedEvent(Long customerId, String custName) {
+}
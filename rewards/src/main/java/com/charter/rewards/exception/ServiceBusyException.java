@@ -0,0 +1,16 @@
+package com.charter.rewards.exception;
+
+// Raised when a bounded worker pool cannot take more work; mapped to 503 with Retry-After
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
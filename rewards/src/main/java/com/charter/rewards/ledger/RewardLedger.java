@@ -0,0 +1,225 @@
+package com.charter.rewards.ledger;
+
+import com.charter.rewards.util.RewardPointsCalculator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// In-memory reward points per customer and month. Customers live in a ConcurrentHashMap, each customer's
+// months in a lock-free sorted map of LongAdder cells, so concurrent writers never block readers or each
+// other. Points recorded inside a database transaction are held back until it commits.
+// Roughly 150 bytes per customer-month. Only sees this JVM's commits, so it is for single-instance deployments
+// (rewards.ledger.enabled, off by default).
+@Component
+public class RewardLedger {
+
+    private final boolean enabled;
+    private volatile ConcurrentHashMap<Long, ConcurrentSkipListMap<Integer, LongAdder>> customers = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    // Held shared from a transaction's commit until its points are applied, exclusively while a reload opens its
+    // database read, so every commit is either in that read or applied after it (and then replayed)
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+    private volatile Queue<long[]> replay;
+
+    public RewardLedger(@Value("${rewards.ledger.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // False until the first load has finished; callers read the database until then
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Called for every persisted transaction; applied now, or after commit when a transaction is active
+    public void record(Long customerId, LocalDate date, long amountCents) {
+        if (!enabled) {
+            return;
+        }
+        int points = RewardPointsCalculator.calculatePointsFromCents(amountCents);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitGate.readLock().lock();
+            try {
+                apply(customerId, monthKey(YearMonth.from(date)), points);
+            } finally {
+                commitGate.readLock().unlock();
+            }
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(customerId, monthKey(YearMonth.from(date)), points);
+    }
+
+    // Replaces the whole ledger with the given points per customer and month. Only for points that no commit can
+    // change meanwhile; totals read from the database go through startReload.
+    public void load(Map<Long, ? extends Map<YearMonth, Long>> points) {
+        customers = toCells(points);
+        ready = true;
+    }
+
+    // Opens the database read a reload is built from (a query stream on a connection the caller already holds).
+    // Commits wait while it opens; points applied after that are kept and replayed by Reload.complete.
+    public <T> Reload<T> startReload(Supplier<T> openRead) {
+        Queue<long[]> buffer = new ConcurrentLinkedQueue<>();
+        commitGate.writeLock().lock();
+        try {
+            if (replay != null) {
+                throw new IllegalStateException("A reward ledger reload is already running");
+            }
+            replay = buffer;
+            return new Reload<>(openRead.get(), buffer);
+        } catch (RuntimeException e) {
+            if (replay == buffer) {
+                replay = null;
+            }
+            throw e;
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    // Monthly totals keyed yyyy-MM, in month order
+    public Map<String, Integer> monthlyRewards(Long customerId) {
+        ConcurrentSkipListMap<Integer, LongAdder> months = customers.get(customerId);
+        return months == null ? new HashMap<>() : toMonthlyRewards(months);
+    }
+
+    public Set<Long> customerIds() {
+        return Collections.unmodifiableSet(customers.keySet());
+    }
+
+    // Caller holds the commit gate shared
+    private void apply(long customerId, int month, long points) {
+        add(customerId, month, points);
+        Queue<long[]> buffer = replay;
+        if (buffer != null) {
+            buffer.add(new long[]{customerId, month, points});
+        }
+    }
+
+    private void add(Long customerId, int month, long points) {
+        customers.computeIfAbsent(customerId, id -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(month, m -> new LongAdder())
+                .add(points);
+    }
+
+    private static ConcurrentHashMap<Long, ConcurrentSkipListMap<Integer, LongAdder>> toCells(
+            Map<Long, ? extends Map<YearMonth, Long>> points) {
+        ConcurrentHashMap<Long, ConcurrentSkipListMap<Integer, LongAdder>> cells = new ConcurrentHashMap<>(points.size());
+        points.forEach((customerId, months) -> {
+            ConcurrentSkipListMap<Integer, LongAdder> customer = new ConcurrentSkipListMap<>();
+            months.forEach((month, value) -> {
+                LongAdder cell = new LongAdder();
+                cell.add(value);
+                customer.put(monthKey(month), cell);
+            });
+            cells.put(customerId, customer);
+        });
+        return cells;
+    }
+
+    private static Map<String, Integer> toMonthlyRewards(ConcurrentNavigableMap<Integer, LongAdder> months) {
+        Map<String, Integer> monthlyRewards = new HashMap<>();
+        months.forEach((month, points) -> monthlyRewards.put(toYearMonth(month).toString(), (int) points.sum()));
+        return monthlyRewards;
+    }
+
+    private static int monthKey(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    private static YearMonth toYearMonth(int key) {
+        return YearMonth.of(key / 12, key % 12 + 1);
+    }
+
+    // A reload in progress: the read it was started with, and the points applied since
+    public final class Reload<T> {
+        private final T read;
+        private final Queue<long[]> buffer;
+
+        private Reload(T read, Queue<long[]> buffer) {
+            this.read = read;
+            this.buffer = buffer;
+        }
+
+        public T read() {
+            return read;
+        }
+
+        // Swaps in the totals built from read(), plus every point applied since it was opened
+        public void complete(Map<Long, ? extends Map<YearMonth, Long>> points) {
+            ConcurrentHashMap<Long, ConcurrentSkipListMap<Integer, LongAdder>> loaded = toCells(points);
+            commitGate.writeLock().lock();
+            try {
+                for (long[] entry : buffer) {
+                    loaded.computeIfAbsent(entry[0], id -> new ConcurrentSkipListMap<>())
+                            .computeIfAbsent((int) entry[1], m -> new LongAdder())
+                            .add(entry[2]);
+                }
+                customers = loaded;
+                ready = true;
+            } finally {
+                cancel();
+                commitGate.writeLock().unlock();
+            }
+        }
+
+        // Stops recording without changing the ledger
+        public void cancel() {
+            if (replay == buffer) {
+                replay = null;
+            }
+        }
+    }
+
+    // Points recorded by one database transaction, applied only if it commits
+    private final class Pending implements TransactionSynchronization {
+        private final List<long[]> entries = new ArrayList<>();
+        private boolean gated;
+
+        private void add(Long customerId, int month, int points) {
+            entries.add(new long[]{customerId, month, points});
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            commitGate.readLock().lock();
+            gated = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(RewardLedger.this);
+            try {
+                if (status == STATUS_COMMITTED) {
+                    for (long[] entry : entries) {
+                        apply(entry[0], (int) entry[1], entry[2]);
+                    }
+                }
+            } finally {
+                if (gated) {
+                    commitGate.readLock().unlock();
+                }
+            }
+        }
+    }
+}
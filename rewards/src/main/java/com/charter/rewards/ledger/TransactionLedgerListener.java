@@ -0,0 +1,19 @@
+package com.charter.rewards.ledger;
+
+import com.charter.rewards.entity.Transaction;
+import jakarta.persistence.PostPersist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// JPA entity listener on Transaction; Hibernate obtains it from Spring, so it can be autowired
+@Component
+public class TransactionLedgerListener {
+
+    @Autowired
+    private RewardLedger ledger;
+
+    @PostPersist
+    public void onPersist(Transaction tx) {
+        ledger.record(tx.getCustomer().getId(), tx.getDate(), tx.getAmountCents());
+    }
+}
@@ -0,0 +1,69 @@
+package com.charter.rewards.mapper;
+
+import com.charter.rewards.dto.RewardRows;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Writes RewardRows as the JSON of the equivalent RewardResponseDTO, byte for byte: same field order, same
+// map iteration order, dates through the mapper's own LocalDate serializer. One pass over the rows, no DTOs.
+@JsonComponent
+public class RewardJsonWriter extends JsonSerializer<RewardRows> {
+
+    @Override
+    public void serialize(RewardRows rows, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonSerializer<Object> dateSerializer = provider.findValueSerializer(LocalDate.class);
+        boolean sortMaps = provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+        gen.writeStartObject();
+        gen.writeNumberField("customerId", rows.customerId());
+        gen.writeStringField("custName", rows.custName());
+        gen.writeStringField("phoneNo", rows.phoneNo());
+        gen.writeFieldName("monthlyRewards");
+        writeMonthlyRewards(gen, rows.monthlyRewards(), sortMaps);
+        gen.writeNumberField("totalRewards", rows.totalRewards());
+
+        gen.writeArrayFieldStart("transactions");
+        for (RewardRows.Row row : rows.rows()) {
+            gen.writeStartObject();
+            gen.writeFieldName("date");
+            dateSerializer.serialize(row.date(), gen, provider);
+            gen.writeNumberField("amount", row.amountCents() / 100.0);
+            gen.writeStringField("product", row.product());
+            gen.writeNumberField("rewardPoints", row.rewardPoints());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        // Built like RewardServiceImpl builds the DTO's timeFrame, so the two keys come out in the same order
+        Map<String, String> timeFrame = new HashMap<>();
+        timeFrame.put("startDate", rows.startDate().toString());
+        timeFrame.put("endDate", rows.endDate().toString());
+        gen.writeObjectFieldStart("timeFrame");
+        for (Map.Entry<String, String> entry : (sortMaps ? new TreeMap<>(timeFrame) : timeFrame).entrySet()) {
+            gen.writeStringField(entry.getKey(), entry.getValue());
+        }
+        gen.writeEndObject();
+
+        gen.writeEndObject();
+    }
+
+    private static void writeMonthlyRewards(JsonGenerator gen, Map<String, Integer> monthlyRewards, boolean sort) throws IOException {
+        if (monthlyRewards == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        for (Map.Entry<String, Integer> month : (sort ? new TreeMap<>(monthlyRewards) : monthlyRewards).entrySet()) {
+            gen.writeNumberField(month.getKey(), month.getValue());
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,80 @@
+package com.charter.rewards.mapper;
+
+import com.charter.rewards.dto.CustomerDTO;
+import com.charter.rewards.dto.CustomerResponseDTO;
+import com.charter.rewards.dto.CustomerRewardResponse;
+import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.dto.TransactionResponseDTO;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.Transaction;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Plain field-by-field mappings for the reward DTOs; no reflection on the request path
+@Component
+public class RewardMapper {
+
+    public Customer toCustomer(CustomerDTO customerDTO) {
+        Customer customer = new Customer();
+        customer.setCustName(customerDTO.getCustName());
+        customer.setPhoneNo(customerDTO.getPhoneNo());
+
+        if (customerDTO.getTransactions() != null) {
+            List<Transaction> transactions = new ArrayList<>(customerDTO.getTransactions().size());
+            for (TransactionDTO dto : customerDTO.getTransactions()) {
+                Transaction tx = new Transaction();
+                tx.setDate(dto.getDate());
+                tx.setAmount(dto.getAmount());
+                tx.setProduct(dto.getProduct());
+                transactions.add(tx);
+            }
+            customer.setTransactions(transactions);
+        }
+        return customer;
+    }
+
+    public CustomerResponseDTO toCustomerResponse(Customer customer) {
+        CustomerResponseDTO response = new CustomerResponseDTO();
+        response.setId(customer.getId());
+        response.setCustName(customer.getCustName());
+        response.setPhoneNo(customer.getPhoneNo());
+
+        if (customer.getTransactions() != null) {
+            List<TransactionResponseDTO> transactions = new ArrayList<>(customer.getTransactions().size());
+            for (Transaction tx : customer.getTransactions()) {
+                TransactionResponseDTO dto = new TransactionResponseDTO();
+                dto.setId(tx.getId());
+                dto.setProduct(tx.getProduct());
+                dto.setAmount(tx.getAmount());
+                dto.setDate(tx.getDate());
+                transactions.add(dto);
+            }
+            response.setTransactions(transactions);
+        }
+        return response;
+    }
+
+    public TransactionDTO toTransactionDTO(Transaction tx, int rewardPoints) {
+        TransactionDTO dto = new TransactionDTO();
+        dto.setDate(tx.getDate());
+        dto.setAmount(tx.getAmount());
+        dto.setProduct(tx.getProduct());
+        dto.setRewardPoints(rewardPoints);
+        return dto;
+    }
+
+    public <T extends CustomerRewardResponse> T fillRewardResponse(T response, Customer customer,
+                                                                   List<TransactionDTO> transactions,
+                                                                   Map<String, Integer> monthlyRewards,
+                                                                   int totalRewards) {
+        response.setCustomerId(customer.getId());
+        response.setCustName(customer.getCustName());
+        response.setPhoneNo(customer.getPhoneNo());
+        response.setTransactions(transactions);
+        response.setMonthlyRewards(monthlyRewards);
+        response.setTotalRewards(totalRewards);
+        return response;
+    }
+}
@@ -0,0 +1,85 @@
+package com.charter.rewards.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Rows returned per Spring Data repository call: rewards.repository.rows (tags repository, method).
+// The call time itself is Spring Boot's spring.data.repository.invocations timer, with the same tags.
+// Scalar and void methods (counts, exists, @Modifying updates) return no rows and are not recorded.
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    // Per repository class and method: inherited methods (CrudRepository.findAll) are shared by every repository
+    private final Map<MeterKey, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object recordRows(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> returnType = method.getReturnType();
+        if (returnType.isPrimitive() || Number.class.isAssignableFrom(returnType) || returnType == Boolean.class) {
+            return result;
+        }
+        Object target = joinPoint.getTarget();
+        DistributionSummary rows = summaries.computeIfAbsent(new MeterKey(target.getClass(), method),
+                key -> DistributionSummary.builder("rewards.repository.rows")
+                        .description("Rows returned by a repository call")
+                        .baseUnit("rows")
+                        .tag("repository", repositoryName(target))
+                        .tag("method", method.getName())
+                        .register(meterRegistry));
+
+        // A stream is counted as the caller consumes it and recorded when it is closed
+        if (result instanceof Stream<?> stream) {
+            AtomicLong count = new AtomicLong();
+            return stream.peek(row -> count.incrementAndGet()).onClose(() -> rows.record(count.get()));
+        }
+        rows.record(count(result));
+        return result;
+    }
+
+    private static long count(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    // The repository interface (e.g. TransactionRepository) rather than Spring Data's proxy class
+    private static String repositoryName(Object target) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(target);
+        return interfaces.length > 0 ? interfaces[0].getSimpleName() : target.getClass().getSimpleName();
+    }
+
+    private record MeterKey(Class<?> targetClass, Method method) {
+    }
+}
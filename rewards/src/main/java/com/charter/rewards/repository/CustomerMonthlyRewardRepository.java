@@ -0,0 +1,40 @@
+package com.charter.rewards.repository;
+
+import com.charter.rewards.entity.CustomerMonthlyReward;
+import com.charter.rewards.entity.CustomerMonthlyRewardId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface CustomerMonthlyRewardRepository extends JpaRepository<CustomerMonthlyReward, CustomerMonthlyRewardId>,
+        CustomerMonthlyRewardRepositoryCustom {
+
+    // Months are yyyy-MM strings, so a string range is a month range
+    List<CustomerMonthlyReward> findByCustomerIdAndRewardMonthBetween(Long customerId, String fromMonth, String toMonth);
+
+    List<CustomerMonthlyReward> findByCustomerIdIn(Collection<Long> customerIds);
+
+    // Forward-only cursor over the whole rollup; rows are projections, so nothing accumulates in the persistence
+    // context. Must be consumed inside a transaction and closed by the caller.
+    @Query("select r.customerId as customerId, r.rewardMonth as rewardMonth, r.points as points "
+            + "from CustomerMonthlyReward r")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<RewardMonthRow> streamAll();
+
+    // Rollup rows of the given customers, before rebuilding them
+    @Modifying
+    @Query("delete from CustomerMonthlyReward r where r.customerId in :customerIds")
+    int deleteByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+}
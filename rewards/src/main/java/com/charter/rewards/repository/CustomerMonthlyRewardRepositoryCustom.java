@@ -0,0 +1,13 @@
+package com.charter.rewards.repository;
+
+import com.charter.rewards.util.MonthlyRewardTotals;
+import java.util.Map;
+
+// JDBC-batched writes to customer_monthly_rewards, implemented in CustomerMonthlyRewardRepositoryImpl
+public interface CustomerMonthlyRewardRepositoryCustom {
+
+    // Adds the totals to the customers' month rows, creating rows on first use; one batch for all customers,
+    // written in (customer, month) order so concurrent writers lock rollup rows in the same order.
+    // Returns the number of month rows written.
+    int addToMonths(Map<Long, MonthlyRewardTotals> totalsByCustomer);
+}
@@ -0,0 +1,56 @@
+package com.charter.rewards.repository;
+
+import com.charter.rewards.util.MonthlyRewardTotals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class CustomerMonthlyRewardRepositoryImpl implements CustomerMonthlyRewardRepositoryCustom {
+
+    // MySQL 8.0.19+ row alias; VALUES(col) in ON DUPLICATE KEY UPDATE is deprecated since 8.0.20
+    static final String MYSQL_UPSERT = "INSERT INTO customer_monthly_rewards "
+            + "(customer_id, reward_month, points, tx_count, amount_sum_cents) VALUES (?, ?, ?, ?, ?) AS added "
+            + "ON DUPLICATE KEY UPDATE points = customer_monthly_rewards.points + added.points, "
+            + "tx_count = customer_monthly_rewards.tx_count + added.tx_count, "
+            + "amount_sum_cents = customer_monthly_rewards.amount_sum_cents + added.amount_sum_cents";
+
+    // Standard MERGE for H2 (tests, benchmarks)
+    static final String MERGE_UPSERT = "MERGE INTO customer_monthly_rewards r USING (VALUES (CAST(? AS BIGINT), "
+            + "CAST(? AS CHAR(7)), CAST(? AS INT), CAST(? AS INT), CAST(? AS BIGINT))) "
+            + "AS added (customer_id, reward_month, points, tx_count, amount_sum_cents) "
+            + "ON r.customer_id = added.customer_id AND r.reward_month = added.reward_month "
+            + "WHEN MATCHED THEN UPDATE SET points = r.points + added.points, tx_count = r.tx_count + added.tx_count, "
+            + "amount_sum_cents = r.amount_sum_cents + added.amount_sum_cents "
+            + "WHEN NOT MATCHED THEN INSERT (customer_id, reward_month, points, tx_count, amount_sum_cents) "
+            + "VALUES (added.customer_id, added.reward_month, added.points, added.tx_count, added.amount_sum_cents)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile String upsertSql;
+
+    @Override
+    public int addToMonths(Map<Long, MonthlyRewardTotals> totalsByCustomer) {
+        List<Object[]> rows = new ArrayList<>();
+        new TreeMap<>(totalsByCustomer).forEach((customerId, months) -> months.forEach((month, points, txCount, amountCents) ->
+                rows.add(new Object[]{customerId, month, points, txCount, amountCents})));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(upsertSql(), rows);
+        }
+        return rows.size();
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            sql = "MySQL".equalsIgnoreCase(product) ? MYSQL_UPSERT : MERGE_UPSERT;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+}
@@ -1,11 +1,66 @@
 package com.charter.rewards.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.charter.rewards.entity.Customer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer,Long>{
 
-}
+    // Backed by the unique index on cust_name. Read-only on its own (login, bearer-token check), so it is served by a
+    // read replica when there are any
+    @Transactional(readOnly = true)
+    Optional<Customer> findByCustName(String custName);
+
+    boolean existsByCustName(String custName);
+
+    // Which of the given ids exist, in one statement
+    @Query("select c.id from Customer c where c.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select c.id from Customer c")
+    List<Long> findAllIds();
+
+    @Transactional(readOnly = true)
+    @Query("select c.ledgerVersion from Customer c where c.id = :id")
+    Optional<Long> findLedgerVersion(@Param("id") Long id);
 
+    @Modifying
+    @Query("update Customer c set c.ledgerVersion = c.ledgerVersion + 1 where c.id in :ids")
+    int incrementLedgerVersions(@Param("ids") Collection<Long> ids);
+
+    // Keyset page: next customers after the last id seen, in id order
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Same, ids only
+    @Query("select c.id from Customer c where c.id > :id order by c.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Limit limit);
+
+    // Row locks on the customers until the transaction ends, taken in id order. Writers of a customer's
+    // transactions and the rollup rebuild take them first, so neither sees the other half-done.
+    @Query(value = "SELECT id FROM customers WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Forward-only cursor over every customer and its transactions, grouped by customer id.
+    // Must be consumed inside a transaction and closed by the caller.
+    @Query("select c.id as customerId, c.custName as custName, c.phoneNo as phoneNo, "
+            + "t.date as date, t.amountCents as amountCents, t.product as product "
+            + "from Customer c left join c.transactions t order by c.id, t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<CustomerTransactionRow> streamCustomerTransactionRows();
+}
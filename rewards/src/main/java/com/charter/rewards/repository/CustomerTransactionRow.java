@@ -0,0 +1,13 @@
+package com.charter.rewards.repository;
+
+import java.time.LocalDate;
+
+// Flat customer + transaction row read by the streaming summary (transaction columns are null for customers without transactions)
+public interface CustomerTransactionRow {
+    Long getCustomerId();
+    String getCustName();
+    String getPhoneNo();
+    LocalDate getDate();
+    Long getAmountCents();
+    String getProduct();
+}
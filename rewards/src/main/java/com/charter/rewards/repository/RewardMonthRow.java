@@ -0,0 +1,8 @@
+package com.charter.rewards.repository;
+
+// One customer-month of the reward rollup, as read by the ledger warm-up
+public interface RewardMonthRow {
+    Long getCustomerId();
+    String getRewardMonth();
+    Integer getPoints();
+}
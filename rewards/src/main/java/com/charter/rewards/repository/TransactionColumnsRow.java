@@ -0,0 +1,11 @@
+package com.charter.rewards.repository;
+
+import java.time.LocalDate;
+
+// Transaction fields read without loading Transaction entities (columnar store, rollup rebuild)
+public interface TransactionColumnsRow {
+    Long getCustomerId();
+    LocalDate getDate();
+    Long getAmountCents();
+    String getProduct();
+}
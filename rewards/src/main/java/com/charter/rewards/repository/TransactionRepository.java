@@ -1,16 +1,51 @@
 package com.charter.rewards.repository;
 
 import com.charter.rewards.entity.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
     List<Transaction> findByCustomerId(Long customerId);
 
+    // Keyset pages of one customer's transactions in (date, id) order, read off idx_transactions_customer_date_id:
+    // the first page, then the page after a given (date, id)
+    List<Transaction> findByCustomerIdOrderByDateAscIdAsc(Long customerId, Limit limit);
+
+    @Query("select t from Transaction t where t.customer.id = :customerId "
+            + "and (t.date > :date or (t.date = :date and t.id > :id)) order by t.date, t.id")
+    List<Transaction> findPageAfter(@Param("customerId") Long customerId, @Param("date") LocalDate date,
+                                    @Param("id") Long id, Limit limit);
+
     List<Transaction> findByCustomerIdAndDateBetween(Long customerId, LocalDate startDate, LocalDate endDate);
+
+    // All transactions for a batch of customers in a single statement
+    List<Transaction> findByCustomerIdInOrderByCustomerIdAscIdAsc(Collection<Long> customerIds);
+
+    // Same customers, columns only, for rebuilding their rollup rows
+    @Query("select t.customer.id as customerId, t.date as date, t.amountCents as amountCents, t.product as product "
+            + "from Transaction t where t.customer.id in :customerIds")
+    List<TransactionColumnsRow> findColumnsByCustomerIdIn(@Param("customerIds") Collection<Long> customerIds);
+
+    // Forward-only cursor over all transactions ordered by customer and date, for the columnar store.
+    // Must be consumed inside a transaction and closed by the caller.
+    @Query("select t.customer.id as customerId, t.date as date, t.amountCents as amountCents, t.product as product "
+            + "from Transaction t order by t.customer.id, t.date, t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<TransactionColumnsRow> streamTransactionColumns();
 }
 
@@ -0,0 +1,135 @@
+package com.charter.rewards.security;
+
+import com.charter.rewards.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs password hashing/verification on a small dedicated pool with a bounded queue, so login bursts
+// cannot occupy every request thread with BCrypt work. When the queue is full, callers fail fast
+// with ServiceBusyException instead of waiting. A caller that times out leaves its hash running (BCrypt cannot be
+// interrupted), so capacity is counted by a semaphore released only when the work itself ends.
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    // threads + queueCapacity permits, one per submitted hash until it has finished running or been skipped
+    private final Semaphore inFlight;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  Duration timeout, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.inFlight = new Semaphore(threads + queueCapacity);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("rewards.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hash requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("rewards.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hash workers busy")
+                .register(meterRegistry);
+        Gauge.builder("rewards.password.in-flight", inFlight, s -> threads + queueCapacity - s.availablePermits())
+                .description("Password hashes queued or running, including those whose caller has given up")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("rewards.password.wait")
+                .description("Time a password hash request waited in the queue")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("rewards.password.hash").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("rewards.password.hash").tag("operation", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("rewards.password.rejected")
+                .description("Password hash requests rejected because the pool was saturated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> work, Timer hashTimer) {
+        if (!inFlight.tryAcquire()) {
+            rejected.increment();
+            throw busy();
+        }
+        long submitted = System.nanoTime();
+        // Set when the caller gives up; a hash still queued then is skipped rather than computed for nobody
+        AtomicBoolean abandoned = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                    return abandoned.get() ? null : hashTimer.recordCallable(work);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            rejected.increment();
+            throw busy();
+        }
+
+        // Never cancelled: a cancelled task that had not started would skip the finally and keep its permit
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandoned.set(true);
+            rejected.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            abandoned.set(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private ServiceBusyException busy() {
+        return new ServiceBusyException("Authentication service is busy, please retry", retryAfterSeconds);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
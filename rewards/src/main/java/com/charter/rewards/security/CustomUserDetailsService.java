@@ -1,15 +1,20 @@
 
 package com.charter.rewards.security;
 
+import com.charter.rewards.datasource.ReadYourWrites;
 import com.charter.rewards.entity.Customer;
 import com.charter.rewards.repository.CustomerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
@@ -17,16 +22,26 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    // Customer names granted ROLE_ADMIN (the /admin/** maintenance endpoints); none by default
+    @Value("${rewards.security.admins:}")
+    private Set<String> admins = Set.of();
+
     @Override
     public UserDetails loadUserByUsername(String custName) throws UsernameNotFoundException {
-        Customer customer = customerRepository.findAll()
-                .stream()
-                .filter(c -> c.getCustName().equals(custName))
-                .findFirst()
-                .orElseThrow(() -> new UsernameNotFoundException("Customer not found: " + custName));
-
-        // Use phoneNo as password (encoded in SecurityConfig)
-        return new User(customer.getCustName(), customer.getPhoneNo(), new ArrayList<>());
+        return userDetailsCache.get(custName, name -> {
+            // A customer logging in right after signing up is looked up on the primary
+            Customer customer = readYourWrites.forCustomerName(name, () -> customerRepository.findByCustName(name))
+                    .orElseThrow(() -> new UsernameNotFoundException("Customer not found: " + name));
+
+            // Use phoneNo as password (encoded in SecurityConfig)
+            return new User(customer.getCustName(), customer.getPhoneNo(), admins.contains(customer.getCustName())
+                    ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN")) : new ArrayList<>());
+        });
     }
 }
-
@@ -5,23 +5,26 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.charter.rewards.util.JwtUtil;
-
 import java.io.IOException;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
     @Autowired
-    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @Autowired
     private CustomUserDetailsService customerDetailsService;
@@ -32,21 +35,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String custName = null;
-        String jwt = null;
+        VerifiedToken token = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
             try {
-                custName = jwtUtil.extractUsername(jwt);
+                // Signature and expiry are checked once here (or skipped for a recently verified token)
+                token = verifiedTokenCache.verify(authorizationHeader.substring(7));
             } catch (Exception e) {
-                System.out.println("Invalid JWT Token: " + e.getMessage());
+                log.debug("Invalid JWT Token: {}", e.getMessage());
             }
         }
 
-        if (custName != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = customerDetailsService.loadUserByUsername(custName);
-            if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = loadUser(token.username());
+            // A valid token for a customer that no longer exists (or a disabled one) leaves the request anonymous
+            if (userDetails != null && userDetails.isEnabled()) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -56,4 +59,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails loadUser(String username) {
+        try {
+            return customerDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            log.debug("JWT Token for unknown customer: {}", username);
+            return null;
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package com.charter.rewards.security;
+
+import com.charter.rewards.event.CustomerChangedEvent;
+import com.charter.rewards.util.AsyncCaches;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.util.function.Function;
+
+// Bounded, expiring cache of customer credentials used by CustomUserDetailsService.
+// Hit/miss/eviction counts are published as the "userDetails" cache metrics. Loads run outside the map lock
+// (AsyncCaches): the invalidation comes from a commit that still holds its connection.
+@Component
+public class UserDetailsCache {
+
+    private final AsyncCache<String, UserDetails> cache;
+
+    public UserDetailsCache(@Value("${rewards.security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${rewards.security.user-cache.ttl:10m}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+
+    // Callers get a copy: Spring Security erases credentials on the instance it authenticated with
+    public UserDetails get(String custName, Function<String, UserDetails> loader) {
+        UserDetails cached = AsyncCaches.get(cache, custName, name -> User.withUserDetails(loader.apply(name)).build());
+        return User.withUserDetails(cached).build();
+    }
+
+    public void invalidate(String custName) {
+        cache.synchronous().invalidate(custName);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (event.custName() != null) {
+            invalidate(event.custName());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.charter.rewards.security;
+
+import java.time.Instant;
+
+// Claims of a bearer token whose signature has already been checked
+public record VerifiedToken(String username, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
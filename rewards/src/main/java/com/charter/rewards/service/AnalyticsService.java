@@ -0,0 +1,19 @@
+package com.charter.rewards.service;
+
+import com.charter.rewards.dto.ColumnarStatsDTO;
+import com.charter.rewards.dto.RewardTotalsDTO;
+import java.time.LocalDate;
+import java.util.List;
+
+// Reward totals answered from the columnar snapshot of the transactions table
+public interface AnalyticsService {
+
+    // Rebuilds the snapshot from the database and returns its statistics
+    ColumnarStatsDTO reload();
+
+    ColumnarStatsDTO getStats();
+
+    RewardTotalsDTO getRewardTotals(Long customerId, LocalDate startDate, LocalDate endDate);
+
+    List<RewardTotalsDTO> getRewardTotalsSummary();
+}
@@ -0,0 +1,12 @@
+package com.charter.rewards.service;
+
+import java.util.Collection;
+
+public interface CustomerVersionService {
+
+    // Current ledger version of the customer, or null for an unknown customer or while a change to it is committing
+    Long getVersion(Long customerId);
+
+    // Increments the versions in the caller's transaction; the new versions are served once it has fully completed
+    void bump(Collection<Long> customerIds);
+}
@@ -0,0 +1,13 @@
+package com.charter.rewards.service;
+
+import com.charter.rewards.dto.LedgerCheckDTO;
+
+public interface RewardLedgerService {
+
+    // Loads the ledger from the monthly rollup
+    void warm();
+
+    // Recomputes every customer's monthly points from the transactions table and compares them with the
+    // ledger; with repair, the ledger is replaced by the recomputed totals plus points committed meanwhile
+    LedgerCheckDTO check(boolean repair);
+}
@@ -0,0 +1,21 @@
+package com.charter.rewards.service;
+
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.util.MonthlyRewardTotals;
+import java.util.Collection;
+import java.util.Map;
+
+public interface RewardRollupService {
+
+    // Adds the transactions to the customer's monthly rollup rows; joins the caller's transaction
+    void recordTransactions(Long customerId, Collection<Transaction> transactions);
+
+    // Same, from totals already accumulated by the caller, for several customers in one batch
+    void recordTotals(Map<Long, MonthlyRewardTotals> totalsByCustomer);
+
+    // Regenerates the whole rollup from the transactions table, one batch of customers per transaction with
+    // those customers locked against writers; returns the number of rollup rows written
+    int rebuild();
+
+    int rebuildIfEmpty();
+}
@@ -3,16 +3,33 @@ package com.charter.rewards.service;
 import com.charter.rewards.dto.CustomerDTO;
 import com.charter.rewards.dto.CustomerResponseDTO;
 import com.charter.rewards.dto.RewardResponseDTO;
+import com.charter.rewards.dto.RewardRows;
 import com.charter.rewards.dto.SummaryResponseDTO;
 import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.dto.TransactionPageDTO;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface RewardService {
 
     CustomerResponseDTO createCustomer(CustomerDTO customerDTO);
     List<SummaryResponseDTO> getRewardSummary();
+    void streamRewardSummary(Consumer<SummaryResponseDTO> sink);
     RewardResponseDTO getRewardsForCustomer(Long customerId, LocalDate startDate, LocalDate endDate);
+    // Same content as getRewardsForCustomer, for RewardJsonWriter
+    RewardRows getRewardRowsForCustomer(Long customerId, LocalDate startDate, LocalDate endDate);
 	List<TransactionDTO> getCustomerTransactions(Long customerId);
+	TransactionPageDTO getCustomerTransactions(Long customerId, int limit, String after);
+
+    // Ledger version of the cached getRewardRowsForCustomer / getCustomerTransactions(customerId) response for these
+    // arguments, or null when none is cached; lets a conditional GET answer without reading the version
+    default Long getCachedRewardsVersion(Long customerId, LocalDate startDate, LocalDate endDate) {
+        return null;
+    }
+
+    default Long getCachedTransactionsVersion(Long customerId) {
+        return null;
+    }
 }
 
@@ -0,0 +1,11 @@
+package com.charter.rewards.service;
+
+import com.charter.rewards.dto.TransactionImportReportDTO;
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface TransactionImportService {
+
+    // Imports a CSV (customerId,date,product,amount) or NDJSON file, resuming from its checkpoint if one exists
+    TransactionImportReportDTO importFile(Path file) throws IOException;
+}
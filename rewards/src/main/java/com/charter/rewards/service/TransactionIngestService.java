@@ -0,0 +1,20 @@
+package com.charter.rewards.service;
+
+import com.charter.rewards.dto.BulkTransactionResponseDTO;
+import com.charter.rewards.dto.TransactionRequestDTO;
+import com.charter.rewards.entity.ImportCheckpoint;
+import java.util.List;
+import java.util.Set;
+
+public interface TransactionIngestService {
+
+    BulkTransactionResponseDTO ingest(List<TransactionRequestDTO> transactions);
+
+    // Same as ingest, with customer ids already resolved by the caller (no id lookup query)
+    BulkTransactionResponseDTO ingest(List<TransactionRequestDTO> transactions, Set<Long> knownCustomerIds);
+
+    // File import chunk: same as above (an empty list is allowed), and saves the import checkpoint in the same
+    // database transaction as the rows
+    BulkTransactionResponseDTO ingest(List<TransactionRequestDTO> transactions, Set<Long> knownCustomerIds,
+                                      ImportCheckpoint checkpoint);
+}
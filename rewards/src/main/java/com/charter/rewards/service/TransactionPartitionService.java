@@ -0,0 +1,8 @@
+package com.charter.rewards.service;
+
+public interface TransactionPartitionService {
+
+    // Splits monthly partitions off the MAXVALUE partition of transactions until the configured number of months
+    // ahead is covered; returns the number added (0 when transactions is not partitioned, e.g. on H2)
+    int createPartitionsAhead();
+}
@@ -0,0 +1,108 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.columnar.ColumnarTransactions;
+import com.charter.rewards.columnar.RewardTotals;
+import com.charter.rewards.dto.ColumnarStatsDTO;
+import com.charter.rewards.dto.RewardTotalsDTO;
+import com.charter.rewards.exception.CustomException;
+import com.charter.rewards.repository.TransactionColumnsRow;
+import com.charter.rewards.repository.TransactionRepository;
+import com.charter.rewards.service.AnalyticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@ConditionalOnProperty(name = "rewards.columnar.enabled", havingValue = "true")
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Value("${rewards.columnar.off-heap:false}")
+    private boolean offHeap;
+
+    // Replaced as a whole on reload; queries always see one consistent snapshot
+    private volatile ColumnarTransactions store;
+    private volatile ColumnarStatsDTO stats;
+
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(cron = "${rewards.columnar.reload-cron:-}")
+    public ColumnarStatsDTO reload() {
+        long start = System.currentTimeMillis();
+        ColumnarTransactions.Builder builder = ColumnarTransactions.builder((int) Math.min(Integer.MAX_VALUE, transactionRepository.count()));
+        try (Stream<TransactionColumnsRow> rows = transactionRepository.streamTransactionColumns()) {
+            rows.forEach(row -> builder.addCents(row.getCustomerId(), row.getDate(), row.getAmountCents(), row.getProduct()));
+        }
+        ColumnarTransactions loaded = builder.build(offHeap);
+        ColumnarStatsDTO loadedStats = toStats(loaded, System.currentTimeMillis() - start);
+        store = loaded;
+        stats = loadedStats;
+        log.info("Loaded columnar store: {} rows, {} customers, {} bytes ({} bytes per million rows) in {} ms",
+                loadedStats.getRows(), loadedStats.getCustomers(), loadedStats.getTotalBytes(),
+                loadedStats.getBytesPerMillionRows(), loadedStats.getLoadMs());
+        return loadedStats;
+    }
+
+    @Override
+    public ColumnarStatsDTO getStats() {
+        loaded();
+        return stats;
+    }
+
+    @Override
+    public RewardTotalsDTO getRewardTotals(Long customerId, LocalDate startDate, LocalDate endDate) {
+        return toDto(loaded().rewards(customerId, startDate, endDate));
+    }
+
+    @Override
+    public List<RewardTotalsDTO> getRewardTotalsSummary() {
+        return loaded().summary().stream().map(AnalyticsServiceImpl::toDto).collect(Collectors.toList());
+    }
+
+    private ColumnarTransactions loaded() {
+        ColumnarTransactions current = store;
+        if (current == null) {
+            throw new CustomException("Columnar store is still loading");
+        }
+        return current;
+    }
+
+    private static RewardTotalsDTO toDto(RewardTotals totals) {
+        RewardTotalsDTO dto = new RewardTotalsDTO();
+        dto.setCustomerId(totals.customerId());
+        dto.setMonthlyRewards(totals.monthlyRewards());
+        dto.setTotalRewards(totals.totalRewards());
+        dto.setTransactionCount(totals.transactionCount());
+        return dto;
+    }
+
+    private static ColumnarStatsDTO toStats(ColumnarTransactions store, long loadMs) {
+        ColumnarStatsDTO dto = new ColumnarStatsDTO();
+        dto.setRows(store.size());
+        dto.setCustomers(store.customerCount());
+        dto.setProducts(store.productCount());
+        dto.setOffHeap(store.isOffHeap());
+        dto.setColumnBytes(store.columnBytes());
+        dto.setIndexBytes(store.indexBytes());
+        dto.setDictionaryBytes(store.dictionaryBytes());
+        dto.setTotalBytes(store.columnBytes() + store.indexBytes() + store.dictionaryBytes());
+        dto.setBytesPerMillionRows(store.size() == 0 ? 0 : dto.getTotalBytes() * 1_000_000 / store.size());
+        dto.setLoadMs(loadMs);
+        dto.setLoadedAt(LocalDateTime.now());
+        return dto;
+    }
+}
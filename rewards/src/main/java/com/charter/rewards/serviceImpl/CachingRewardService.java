@@ -0,0 +1,214 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.datasource.ReadYourWrites;
+import com.charter.rewards.dto.CustomerDTO;
+import com.charter.rewards.dto.CustomerResponseDTO;
+import com.charter.rewards.dto.RewardResponseDTO;
+import com.charter.rewards.dto.RewardRows;
+import com.charter.rewards.dto.SummaryResponseDTO;
+import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.dto.TransactionPageDTO;
+import com.charter.rewards.event.CustomerChangedEvent;
+import com.charter.rewards.service.CustomerVersionService;
+import com.charter.rewards.service.RewardService;
+import com.charter.rewards.util.AsyncCaches;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Read-through cache in front of RewardServiceImpl for the per-customer reward and transaction queries.
+// Bounded, expiring Caffeine caches (W-TinyLFU eviction), dropped per customer on CustomerChangedEvent; loads run
+// outside the cache's map lock (AsyncCaches), since the invalidation comes from a commit that still holds a connection.
+// Metrics: cache.* for "rewardResponses" and "customerTransactions", plus rewards.cache.hit.ratio.
+// Entries carry the customer's ledger version read before their load. An entry older than the current version
+// (a change committed by another instance) is reloaded, so a body is never older than the ETag served with it.
+// With read replicas, loads for a customer changed within the read-your-writes window run on the primary.
+// Conditional GETs take the version of a cached entry as their ETag without reading it, so a change committed by
+// another instance shows there once the entry expires (ttl) or a full GET reloads it; this instance's own changes
+// drop the entries on commit.
+@Service
+@Primary
+public class CachingRewardService implements RewardService {
+
+    private final RewardService delegate;
+    private final ReadYourWrites readYourWrites;
+    private final CustomerVersionService versionService;
+
+    // Null when switched off for that endpoint
+    private final AsyncCache<RangeKey, Versioned<RewardRows>> rewards;
+    private final AsyncCache<Long, Versioned<List<TransactionDTO>>> transactions;
+
+    // Reward keys cached per customer, so one customer's ranges can be dropped without scanning the cache
+    private final ConcurrentHashMap<Long, Set<RangeKey>> rangesByCustomer = new ConcurrentHashMap<>();
+
+    public CachingRewardService(@Qualifier("rewardServiceImpl") RewardService delegate,
+                                @Value("${rewards.cache.rewards.enabled:true}") boolean rewardsEnabled,
+                                @Value("${rewards.cache.transactions.enabled:true}") boolean transactionsEnabled,
+                                @Value("${rewards.cache.max-size:10000}") long maxSize,
+                                @Value("${rewards.cache.ttl:5m}") Duration ttl,
+                                ReadYourWrites readYourWrites,
+                                CustomerVersionService versionService,
+                                MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.readYourWrites = readYourWrites;
+        this.versionService = versionService;
+        this.rewards = rewardsEnabled
+                ? monitor(meterRegistry, "rewardResponses", Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        // Runs atomically with the eviction, so a concurrent reload of the same key stays indexed
+                        .evictionListener((RangeKey key, Versioned<RewardRows> value, RemovalCause cause) -> forget(key))
+                        .buildAsync())
+                : null;
+        this.transactions = transactionsEnabled
+                ? monitor(meterRegistry, "customerTransactions", Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .<Long, Versioned<List<TransactionDTO>>>buildAsync())
+                : null;
+    }
+
+    @Override
+    public RewardResponseDTO getRewardsForCustomer(Long customerId, LocalDate startDate, LocalDate endDate) {
+        return readYourWrites.forCustomer(customerId, () -> delegate.getRewardsForCustomer(customerId, startDate, endDate));
+    }
+
+    // The form RewardController serves; rows are never modified after they are built
+    @Override
+    public RewardRows getRewardRowsForCustomer(Long customerId, LocalDate startDate, LocalDate endDate) {
+        Long version = rewards == null ? null : versionService.getVersion(customerId);
+        if (version == null) {
+            return readYourWrites.forCustomer(customerId, () -> delegate.getRewardRowsForCustomer(customerId, startDate, endDate));
+        }
+        // Failed lookups (unknown customer, no transactions) throw and are not cached
+        return get(rewards, new RangeKey(customerId, startDate, endDate), version, key -> {
+            remember(key);
+            return readYourWrites.forCustomer(customerId, () -> delegate.getRewardRowsForCustomer(customerId, startDate, endDate));
+        });
+    }
+
+    @Override
+    public List<TransactionDTO> getCustomerTransactions(Long customerId) {
+        Long version = transactions == null ? null : versionService.getVersion(customerId);
+        if (version == null) {
+            return readYourWrites.forCustomer(customerId, () -> delegate.getCustomerTransactions(customerId));
+        }
+        return get(transactions, customerId, version,
+                id -> readYourWrites.forCustomer(id, () -> List.copyOf(delegate.getCustomerTransactions(id))));
+    }
+
+    @Override
+    public Long getCachedRewardsVersion(Long customerId, LocalDate startDate, LocalDate endDate) {
+        return rewards == null ? null : cachedVersion(rewards, new RangeKey(customerId, startDate, endDate));
+    }
+
+    @Override
+    public Long getCachedTransactionsVersion(Long customerId) {
+        return transactions == null ? null : cachedVersion(transactions, customerId);
+    }
+
+    @Override
+    public TransactionPageDTO getCustomerTransactions(Long customerId, int limit, String after) {
+        return readYourWrites.forCustomer(customerId, () -> delegate.getCustomerTransactions(customerId, limit, after));
+    }
+
+    @Override
+    public CustomerResponseDTO createCustomer(CustomerDTO customerDTO) {
+        return delegate.createCustomer(customerDTO);
+    }
+
+    @Override
+    public List<SummaryResponseDTO> getRewardSummary() {
+        return delegate.getRewardSummary();
+    }
+
+    @Override
+    public void streamRewardSummary(Consumer<SummaryResponseDTO> sink) {
+        delegate.streamRewardSummary(sink);
+    }
+
+    // After commit, so a reload cannot read the data from before the change
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        invalidate(event.customerId());
+    }
+
+    public void invalidate(Long customerId) {
+        if (rewards != null) {
+            Set<RangeKey> keys = rangesByCustomer.remove(customerId);
+            if (keys != null) {
+                // A load of the same key in progress is dropped without waiting; its result is never cached
+                rewards.synchronous().invalidateAll(keys);
+            }
+        }
+        if (transactions != null) {
+            transactions.synchronous().invalidate(customerId);
+        }
+    }
+
+    // An entry cached before the given version is dropped and loaded again; a newer one (read from a lagging
+    // replica) is kept
+    private static <K, V> V get(AsyncCache<K, Versioned<V>> cache, K key, long version, Function<K, V> loader) {
+        Function<K, Versioned<V>> load = k -> new Versioned<>(version, loader.apply(k));
+        Versioned<V> cached = AsyncCaches.get(cache, key, load);
+        if (cached.version() >= version) {
+            return cached.value();
+        }
+        cache.synchronous().asMap().remove(key, cached);
+        return AsyncCaches.get(cache, key, load).value();
+    }
+
+    // Only a completed load counts: one still running may fail, and is not waited for
+    private static <K, V> Long cachedVersion(AsyncCache<K, Versioned<V>> cache, K key) {
+        CompletableFuture<Versioned<V>> future = cache.getIfPresent(key);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join().version() : null;
+    }
+
+    // Registered inside the load, before the query runs: an invalidation either sees the key or precedes the read
+    private void remember(RangeKey key) {
+        rangesByCustomer.compute(key.customerId(), (id, keys) -> {
+            Set<RangeKey> set = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            set.add(key);
+            return set;
+        });
+    }
+
+    private void forget(RangeKey key) {
+        rangesByCustomer.computeIfPresent(key.customerId(), (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static <K, V> AsyncCache<K, V> monitor(MeterRegistry meterRegistry, String name, AsyncCache<K, V> cache) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        Gauge.builder("rewards.cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .tag("cache", name)
+                .register(meterRegistry);
+        return cache;
+    }
+
+    private record RangeKey(Long customerId, LocalDate startDate, LocalDate endDate) {
+    }
+
+    private record Versioned<V>(long version, V value) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.datasource.ReadYourWrites;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.service.CustomerVersionService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-customer ledger versions (customers.ledger_version) behind the ETags of uncached RewardController responses
+// and the keys of the CachingRewardService entries. Read from the database on every call (a primary-key lookup), so
+// a change committed by any instance is in the next version read. With read replicas the read may lag by up to their max-lag, except for
+// customers this instance changed within the read-your-writes window.
+@Service
+public class CustomerVersionServiceImpl implements CustomerVersionService {
+
+    private final CustomerRepository customerRepository;
+    private final ReadYourWrites readYourWrites;
+
+    // Customers whose bump is committing, with the number of transactions doing so. The ledger and response cache
+    // catch up only after the commit, so no version is served until then: an ETag never runs ahead of the body.
+    private final ConcurrentHashMap<Long, Integer> committing = new ConcurrentHashMap<>();
+
+    public CustomerVersionServiceImpl(CustomerRepository customerRepository, ReadYourWrites readYourWrites) {
+        this.customerRepository = customerRepository;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Long getVersion(Long customerId) {
+        Long version = readYourWrites.forCustomer(customerId,
+                () -> customerRepository.findLedgerVersion(customerId).orElse(null));
+        // Checked after the read: a version read after the commit is only served once the customer is released
+        return committing.containsKey(customerId) ? null : version;
+    }
+
+    // Call after publishing the transaction's CustomerChangedEvents: synchronizations of equal order complete in
+    // registration order, so the customers are released only after the ledger and caches have been updated
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(Collection<Long> customerIds) {
+        if (customerIds.isEmpty()) {
+            return;
+        }
+        // Sorted, so concurrent transactions lock customer rows in the same order
+        List<Long> ids = List.copyOf(new TreeSet<>(customerIds));
+        customerRepository.incrementLedgerVersions(ids);
+        TransactionSynchronizationManager.registerSynchronization(new Release(ids));
+    }
+
+    private final class Release implements TransactionSynchronization {
+        private final List<Long> ids;
+        private boolean held;
+
+        private Release(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            ids.forEach(id -> committing.merge(id, 1, Integer::sum));
+            held = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (held) {
+                ids.forEach(id -> committing.computeIfPresent(id, (key, count) -> count == 1 ? null : count - 1));
+            }
+        }
+    }
+}
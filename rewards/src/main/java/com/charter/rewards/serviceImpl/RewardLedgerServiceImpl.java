@@ -0,0 +1,183 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.dto.LedgerCheckDTO;
+import com.charter.rewards.dto.LedgerMismatchDTO;
+import com.charter.rewards.exception.CustomException;
+import com.charter.rewards.ledger.RewardLedger;
+import com.charter.rewards.repository.CustomerMonthlyRewardRepository;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.CustomerTransactionRow;
+import com.charter.rewards.repository.RewardMonthRow;
+import com.charter.rewards.service.RewardLedgerService;
+import com.charter.rewards.util.RewardPointsCalculator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Connection;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+public class RewardLedgerServiceImpl implements RewardLedgerService {
+
+    private static final Logger log = LoggerFactory.getLogger(RewardLedgerServiceImpl.class);
+
+    // Mismatches listed in the check response; all of them are counted
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+
+    @Autowired
+    private RewardLedger ledger;
+
+    @Autowired
+    private CustomerMonthlyRewardRepository rollupRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Not read-only: the ledger follows commits on the primary, so it is loaded from the primary, never a replica
+    @Override
+    @Transactional
+    public void warm() {
+        if (!ledger.isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        holdConnection();
+        RewardLedger.Reload<Stream<RewardMonthRow>> reload = startReload(rollupRepository::streamAll);
+        Map<Long, Map<YearMonth, Long>> points = new HashMap<>();
+        int[] months = {0};
+        try (Stream<RewardMonthRow> rollup = reload.read()) {
+            rollup.forEach(month -> {
+                points.computeIfAbsent(month.getCustomerId(), id -> new HashMap<>())
+                        .put(YearMonth.parse(month.getRewardMonth()), month.getPoints().longValue());
+                months[0]++;
+            });
+        } catch (RuntimeException e) {
+            reload.cancel();
+            throw e;
+        }
+        reload.complete(points);
+        log.info("Loaded reward ledger: {} customers, {} months in {} ms",
+                points.size(), months[0], System.currentTimeMillis() - start);
+    }
+
+    // Rows arrive ordered by customer, so only one customer's recomputed months are held at a time
+    // (all of them when repairing). Writes committed while the check runs can show up as mismatches;
+    // a repair replays them onto the recomputed totals, so it never drops them.
+    @Override
+    @Transactional
+    public LedgerCheckDTO check(boolean repair) {
+        if (!ledger.isEnabled()) {
+            throw new CustomException("Reward ledger is disabled (rewards.ledger.enabled=false)");
+        }
+        long start = System.currentTimeMillis();
+        List<LedgerMismatchDTO> mismatches = new ArrayList<>();
+        int[] mismatchCount = {0};
+        Set<Long> seen = new HashSet<>();
+        Map<Long, Map<YearMonth, Long>> recomputed = new HashMap<>();
+
+        RewardLedger.Reload<Stream<CustomerTransactionRow>> reload = null;
+        if (repair) {
+            holdConnection();
+            reload = startReload(customerRepository::streamCustomerTransactionRows);
+        }
+        try (Stream<CustomerTransactionRow> rows = repair ? reload.read() : customerRepository.streamCustomerTransactionRows()) {
+            Long currentId = null;
+            Map<YearMonth, Long> current = new TreeMap<>();
+            Iterator<CustomerTransactionRow> iterator = rows.iterator();
+
+            while (iterator.hasNext()) {
+                CustomerTransactionRow row = iterator.next();
+                if (!row.getCustomerId().equals(currentId)) {
+                    if (currentId != null) {
+                        compare(currentId, current, mismatches, mismatchCount, repair ? recomputed : null);
+                    }
+                    currentId = row.getCustomerId();
+                    current = new TreeMap<>();
+                    seen.add(currentId);
+                }
+                if (row.getDate() != null) {
+                    current.merge(YearMonth.from(row.getDate()),
+                            (long) RewardPointsCalculator.calculatePointsFromCents(row.getAmountCents()), Long::sum);
+                }
+            }
+            if (currentId != null) {
+                compare(currentId, current, mismatches, mismatchCount, repair ? recomputed : null);
+            }
+        } catch (RuntimeException e) {
+            if (reload != null) {
+                reload.cancel();
+            }
+            throw e;
+        }
+
+        // Customers the ledger knows about but the database does not
+        for (Long customerId : ledger.customerIds()) {
+            if (!seen.contains(customerId)) {
+                compare(customerId, Map.of(), mismatches, mismatchCount, null);
+            }
+        }
+
+        if (repair) {
+            reload.complete(recomputed);
+        }
+
+        LedgerCheckDTO result = new LedgerCheckDTO();
+        result.setConsistent(mismatchCount[0] == 0);
+        result.setRepaired(repair);
+        result.setCustomersChecked(seen.size());
+        result.setMismatchCount(mismatchCount[0]);
+        result.setMismatches(mismatches);
+        result.setElapsedMs(System.currentTimeMillis() - start);
+        if (mismatchCount[0] > 0) {
+            log.warn("Reward ledger check: {} mismatched months over {} customers{}",
+                    mismatchCount[0], seen.size(), repair ? ", ledger reloaded" : "");
+        }
+        return result;
+    }
+
+    private <T> RewardLedger.Reload<T> startReload(Supplier<T> openRead) {
+        try {
+            return ledger.startReload(openRead);
+        } catch (IllegalStateException e) {
+            throw new CustomException(e.getMessage());
+        }
+    }
+
+    // Takes the transaction's connection now (it is opened lazily with read replicas), so startReload never
+    // waits for a pooled connection while commits are held back
+    private void holdConnection() {
+        entityManager.unwrap(Session.class).doWork(Connection::getMetaData);
+    }
+
+    // Months missing on one side count as 0 points
+    private void compare(Long customerId, Map<YearMonth, Long> database, List<LedgerMismatchDTO> mismatches,
+                         int[] mismatchCount, Map<Long, Map<YearMonth, Long>> recomputed) {
+        Map<String, Integer> ledgerMonths = ledger.monthlyRewards(customerId);
+        Set<String> months = new TreeSet<>(ledgerMonths.keySet());
+        database.keySet().forEach(month -> months.add(month.toString()));
+
+        for (String month : months) {
+            int ledgerPoints = ledgerMonths.getOrDefault(month, 0);
+            int databasePoints = database.getOrDefault(YearMonth.parse(month), 0L).intValue();
+            if (ledgerPoints != databasePoints) {
+                if (++mismatchCount[0] <= MAX_REPORTED_MISMATCHES) {
+                    mismatches.add(new LedgerMismatchDTO(customerId, month, ledgerPoints, databasePoints));
+                }
+            }
+        }
+        if (recomputed != null && !database.isEmpty()) {
+            recomputed.put(customerId, database);
+        }
+    }
+}
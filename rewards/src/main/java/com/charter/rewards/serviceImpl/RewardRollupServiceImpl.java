@@ -0,0 +1,105 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.repository.CustomerMonthlyRewardRepository;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.TransactionColumnsRow;
+import com.charter.rewards.repository.TransactionRepository;
+import com.charter.rewards.service.RewardRollupService;
+import com.charter.rewards.util.MonthlyRewardTotals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.*;
+
+@Service
+public class RewardRollupServiceImpl implements RewardRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(RewardRollupServiceImpl.class);
+
+    @Autowired
+    private CustomerMonthlyRewardRepository rollupRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Customers rebuilt per transaction; their rows stay locked against writers until it commits
+    @Value("${rewards.rollup.rebuild-batch-size:500}")
+    private int rebuildBatchSize = 500;
+
+    @Override
+    @Transactional
+    public void recordTransactions(Long customerId, Collection<Transaction> transactions) {
+        if (transactions == null || transactions.isEmpty()) {
+            return;
+        }
+        MonthlyRewardTotals months = new MonthlyRewardTotals();
+        for (Transaction tx : transactions) {
+            months.add(tx.getDate(), tx.getAmountCents());
+        }
+        rollupRepository.addToMonths(Map.of(customerId, months));
+    }
+
+    @Override
+    @Transactional
+    public void recordTotals(Map<Long, MonthlyRewardTotals> totalsByCustomer) {
+        rollupRepository.addToMonths(totalsByCustomer);
+    }
+
+    // No long transaction and no window with an empty rollup: each batch locks its customers (writers lock them
+    // before inserting transactions), recomputes their months and replaces their rows, then commits
+    @Override
+    @Scheduled(cron = "${rewards.rollup.rebuild-cron:-}")
+    public int rebuild() {
+        long started = System.currentTimeMillis();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int rows = 0;
+        long lastSeenId = 0L;
+        List<Long> batch;
+
+        do {
+            batch = customerRepository.findIdsAfter(lastSeenId, Limit.of(rebuildBatchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> customerIds = batch;
+            rows += transaction.execute(status -> rebuildCustomers(customerIds));
+            lastSeenId = batch.get(batch.size() - 1);
+        } while (batch.size() == rebuildBatchSize);
+
+        log.info("Rebuilt reward rollup: {} rows in {} ms", rows, System.currentTimeMillis() - started);
+        return rows;
+    }
+
+    private int rebuildCustomers(List<Long> customerIds) {
+        customerRepository.lockForUpdate(customerIds);
+        Map<Long, MonthlyRewardTotals> totalsByCustomer = new HashMap<>();
+        for (TransactionColumnsRow row : transactionRepository.findColumnsByCustomerIdIn(customerIds)) {
+            totalsByCustomer.computeIfAbsent(row.getCustomerId(), id -> new MonthlyRewardTotals())
+                    .add(row.getDate(), row.getAmountCents());
+        }
+        rollupRepository.deleteByCustomerIds(customerIds);
+        return rollupRepository.addToMonths(totalsByCustomer);
+    }
+
+    @Override
+    public int rebuildIfEmpty() {
+        if (rollupRepository.count() == 0 && transactionRepository.count() > 0) {
+            return rebuild();
+        }
+        return 0;
+    }
+}
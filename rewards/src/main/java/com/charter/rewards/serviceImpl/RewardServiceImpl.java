@@ -1,22 +1,42 @@
 package com.charter.rewards.serviceImpl;
 
+import com.charter.rewards.aggregation.RewardAggregator;
 import com.charter.rewards.dto.*;
 import com.charter.rewards.entity.Customer;
 import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.event.CustomerChangedEvent;
+import com.charter.rewards.exception.CustomException;
+import com.charter.rewards.mapper.RewardMapper;
 import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.CustomerTransactionRow;
 import com.charter.rewards.repository.TransactionRepository;
+import com.charter.rewards.service.RewardRollupService;
 import com.charter.rewards.service.RewardService;
-import org.modelmapper.ModelMapper;
+import com.charter.rewards.util.RewardPointsCalculator;
+import com.charter.rewards.util.TransactionCursor;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+// Every method is timed as rewards.service (tags class, method), behind the response cache
 @Service
+@Timed("rewards.service")
 public class RewardServiceImpl implements RewardService {
 
     @Autowired
@@ -26,7 +46,7 @@ public class RewardServiceImpl implements RewardService {
     private TransactionRepository transactionRepository;
 
     @Autowired
-    private ModelMapper mapper;
+    private RewardMapper mapper;
 
     @Autowired
     private Environment env;
@@ -34,119 +54,248 @@ public class RewardServiceImpl implements RewardService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private RewardRollupService rollupService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RewardAggregator aggregator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Customers loaded per keyset page when building the summary
+    @Value("${rewards.summary.batch-size:500}")
+    private int summaryBatchSize = 500;
+
+    // Largest limit accepted by the paginated transaction listing
+    @Value("${rewards.transactions.max-page-size:1000}")
+    private int maxPageSize = 1000;
+
+    // BCrypt runs before the transaction starts, so no connection is held while it hashes (or waits for a
+    // hashing slot); only the inserts run inside it
     @Override
     public CustomerResponseDTO createCustomer(CustomerDTO customerDTO) {
-        Customer customer = mapper.map(customerDTO, Customer.class);
+        if (customerRepository.existsByCustName(customerDTO.getCustName())) {
+            throw customerExists(customerDTO.getCustName());
+        }
+        // Checked here, before the mapper converts the amounts to cents
+        if (customerDTO.getTransactions() != null) {
+            for (TransactionDTO tx : customerDTO.getTransactions()) {
+                if (tx == null || tx.getAmount() == null || tx.getAmount().isNaN() || tx.getAmount().isInfinite()) {
+                    throw new CustomException(env.getProperty("error.transaction.amount", "Transaction amount is required"));
+                }
+            }
+        }
+        Customer customer = mapper.toCustomer(customerDTO);
 
         if (customer.getTransactions() != null) {
             customer.getTransactions().forEach(tx -> tx.setCustomer(customer));
         }
         customer.setPhoneNo(passwordEncoder.encode(customer.getPhoneNo()));
-        Customer savedCustomer = customerRepository.save(customer);
-        return mapper.map(savedCustomer, CustomerResponseDTO.class);
+
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                Customer savedCustomer = customerRepository.save(customer);
+                rollupService.recordTransactions(savedCustomer.getId(), savedCustomer.getTransactions());
+                eventPublisher.publishEvent(new CustomerChangedEvent(savedCustomer.getId(), savedCustomer.getCustName()));
+                return mapper.toCustomerResponse(savedCustomer);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // The same name created concurrently, after the check above: uk_customers_cust_name rejected this insert
+            if (customerRepository.existsByCustName(customerDTO.getCustName())) {
+                throw customerExists(customerDTO.getCustName());
+            }
+            throw e;
+        }
     }
 
-    @Override
-    public List<SummaryResponseDTO> getRewardSummary() {
-        return customerRepository.findAll().stream()
-                .map(customer -> {
-                    List<Transaction> transactions = transactionRepository.findByCustomerId(customer.getId());
-                    return buildResponse(customer, transactions, SummaryResponseDTO.class, null, null);
-                })
-                .collect(Collectors.toList());
+    private CustomException customerExists(String custName) {
+        return new CustomException(String.format("%s: %s",
+                env.getProperty("error.customer.exists", "Customer already exists"), custName));
     }
-    
+
+    // Two queries per page of customers (the customers, their transactions), never one per customer. Totals are
+    // aggregated from those rows, as for a single customer, so they always agree with the listed transactions
     @Override
-    public List<TransactionDTO> getCustomerTransactions(Long customerId) {
-        List<Transaction> transactions = transactionRepository.findByCustomerId(customerId);
+    @Transactional(readOnly = true)
+    public List<SummaryResponseDTO> getRewardSummary() {
+        List<SummaryResponseDTO> summaries = new ArrayList<>();
+        long lastSeenId = 0L;
+        List<Customer> batch;
+
+        do {
+            batch = customerRepository.findByIdGreaterThanOrderByIdAsc(lastSeenId, Limit.of(summaryBatchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Long> customerIds = batch.stream().map(Customer::getId).collect(Collectors.toList());
+            Map<Long, List<Transaction>> transactionsByCustomer = transactionRepository
+                    .findByCustomerIdInOrderByCustomerIdAscIdAsc(customerIds).stream()
+                    .collect(Collectors.groupingBy(tx -> tx.getCustomer().getId()));
+
+            // Customers of a large page are built in parallel; the page keeps its id order
+            long pageTransactions = transactionsByCustomer.values().stream().mapToLong(List::size).sum();
+            summaries.addAll(aggregator.mapInOrder(batch, pageTransactions, customer -> {
+                List<Transaction> transactions = transactionsByCustomer.getOrDefault(customer.getId(), List.of());
+                return buildResponse(customer, transactions, SummaryResponseDTO::new);
+            }));
+            lastSeenId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == summaryBatchSize);
 
-        return transactions.stream().map(tx -> {
-            TransactionDTO dto = mapper.map(tx, TransactionDTO.class);
-            dto.setRewardPoints(calculatePoints(tx.getAmount()));
-            return dto;
-        }).collect(Collectors.toList());
+        return summaries;
     }
 
+    // Hands each customer's summary to the sink as soon as its last row is read, so only one
+    // customer is held in memory at a time regardless of how many customers exist
     @Override
-    public RewardResponseDTO getRewardsForCustomer(Long customerId, LocalDate startDate, LocalDate endDate) {
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new RuntimeException(
-                        String.format("%s %d", env.getProperty("customer.notfound", "Customer not found:"), customerId)
-                ));
+    @Transactional(readOnly = true)
+    public void streamRewardSummary(Consumer<SummaryResponseDTO> sink) {
+        try (Stream<CustomerTransactionRow> rows = customerRepository.streamCustomerTransactionRows()) {
+            SummaryResponseDTO current = null;
+            Iterator<CustomerTransactionRow> iterator = rows.iterator();
 
-        List<Transaction> transactions = transactionRepository
-                .findByCustomerIdAndDateBetween(customerId, startDate, endDate);
+            while (iterator.hasNext()) {
+                CustomerTransactionRow row = iterator.next();
+                if (current == null || !current.getCustomerId().equals(row.getCustomerId())) {
+                    if (current != null) {
+                        sink.accept(current);
+                    }
+                    current = new SummaryResponseDTO();
+                    current.setCustomerId(row.getCustomerId());
+                    current.setCustName(row.getCustName());
+                    current.setPhoneNo(row.getPhoneNo());
+                    current.setMonthlyRewards(new HashMap<>());
+                    current.setTotalRewards(0);
+                    current.setTransactions(new ArrayList<>());
+                }
 
-        if (transactions.isEmpty()) {
-            throw new RuntimeException(env.getProperty("transaction.notfound", "No transactions found"));
-        }
+                // Customers without transactions come back as a single row with null transaction columns
+                if (row.getDate() != null) {
+                    int points = RewardPointsCalculator.calculatePointsFromCents(row.getAmountCents());
+                    TransactionDTO dto = new TransactionDTO();
+                    dto.setDate(row.getDate());
+                    dto.setAmount(row.getAmountCents() / 100.0);
+                    dto.setProduct(row.getProduct());
+                    dto.setRewardPoints(points);
+
+                    current.getTransactions().add(dto);
+                    current.getMonthlyRewards().merge(YearMonth.from(row.getDate()).toString(), points, Integer::sum);
+                    current.setTotalRewards(current.getTotalRewards() + points);
+                }
+            }
 
-        return buildResponse(customer, transactions, RewardResponseDTO.class, startDate, endDate);
+            if (current != null) {
+                sink.accept(current);
+            }
+        }
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionDTO> getCustomerTransactions(Long customerId) {
+        List<Transaction> transactions = transactionRepository.findByCustomerId(customerId);
 
-    @SuppressWarnings("unchecked")
-    private <T> T buildResponse(Customer customer, List<Transaction> transactions,
-                                Class<T> responseType,
-                                LocalDate startDate, LocalDate endDate) {
+        return transactions.stream()
+                .map(tx -> mapper.toTransactionDTO(tx, RewardPointsCalculator.calculatePointsFromCents(tx.getAmountCents())))
+                .collect(Collectors.toList());
+    }
 
-        Map<String, Integer> monthlyRewards = new HashMap<>();
-        int totalRewards = 0;
-        List<TransactionDTO> txDtos = new ArrayList<>();
+    // Keyset pagination: each page seeks past the cursor on the (customer_id, date, id) index, so deep
+    // pages cost the same as the first
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageDTO getCustomerTransactions(Long customerId, int limit, String after) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new CustomException(String.format("%s %d",
+                    env.getProperty("error.page.limit", "limit must be between 1 and"), maxPageSize));
+        }
+        TransactionCursor cursor = decodeCursor(after);
 
-        for (Transaction tx : transactions) {
-            int points = calculatePoints(tx.getAmount());
-            totalRewards += points;
+        // One row more than asked tells whether another page follows
+        Limit fetch = Limit.of(limit + 1);
+        List<Transaction> rows = cursor == null
+                ? transactionRepository.findByCustomerIdOrderByDateAscIdAsc(customerId, fetch)
+                : transactionRepository.findPageAfter(customerId, cursor.date(), cursor.id(), fetch);
+        boolean hasMore = rows.size() > limit;
+        List<Transaction> page = hasMore ? rows.subList(0, limit) : rows;
 
-            String monthKey = YearMonth.from(tx.getDate()).toString();
-            monthlyRewards.put(monthKey, monthlyRewards.getOrDefault(monthKey, 0) + points);
+        TransactionPageDTO response = new TransactionPageDTO();
+        response.setTransactions(aggregator.aggregate(page, false).transactions());
+        response.setNextCursor(hasMore ? TransactionCursor.of(page.get(limit - 1)).encode() : null);
+        return response;
+    }
 
-            TransactionDTO dto = mapper.map(tx, TransactionDTO.class);
-            dto.setRewardPoints(points);
-            txDtos.add(dto);
+    private TransactionCursor decodeCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
         }
-
-        Object response;
-        if (responseType.equals(SummaryResponseDTO.class)) {
-            response = new SummaryResponseDTO();
-        } else if (responseType.equals(RewardResponseDTO.class)) {
-            response = new RewardResponseDTO();
-        } else {
-            throw new IllegalArgumentException("Unsupported response type: " + responseType.getName());
+        try {
+            return TransactionCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(env.getProperty("error.page.cursor", "Invalid cursor"));
         }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RewardResponseDTO getRewardsForCustomer(Long customerId, LocalDate startDate, LocalDate endDate) {
+        CustomerRange range = loadRange(customerId, startDate, endDate);
+        RewardResponseDTO response = buildResponse(range.customer(), range.transactions(), RewardResponseDTO::new);
+        Map<String, String> timeFrame = new HashMap<>();
+        timeFrame.put("startDate", startDate.toString());
+        timeFrame.put("endDate", endDate.toString());
+        response.setTimeFrame(timeFrame);
+        return response;
+    }
 
-        // Set common fields for both DTOs
-        setCommonFields(response, customer, txDtos, monthlyRewards, totalRewards);
+    @Override
+    @Transactional(readOnly = true)
+    public RewardRows getRewardRowsForCustomer(Long customerId, LocalDate startDate, LocalDate endDate) {
+        CustomerRange range = loadRange(customerId, startDate, endDate);
+        List<Transaction> transactions = range.transactions();
+        RewardAggregator.Points points = aggregator.rowPoints(transactions, true);
 
-        // Only for RewardResponseDTO, set time frame if provided
-        if (response instanceof RewardResponseDTO rewardResp && startDate != null && endDate != null) {
-            Map<String, String> timeFrame = new HashMap<>();
-            timeFrame.put("startDate", startDate.toString());
-            timeFrame.put("endDate", endDate.toString());
-            rewardResp.setTimeFrame(timeFrame);
+        // Plain values only: the response may be cached past this transaction
+        int[] rewardPoints = points.points();
+        List<RewardRows.Row> rows = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction tx = transactions.get(i);
+            rows.add(new RewardRows.Row(tx.getDate(), tx.getAmountCents(), tx.getProduct(), rewardPoints[i]));
         }
+        Customer customer = range.customer();
+        return new RewardRows(customer.getId(), customer.getCustName(), customer.getPhoneNo(), points.monthlyRewards(),
+                points.totalRewards(), rows, startDate, endDate);
+    }
 
-        return (T) response;
+    // Customer and transactions in range. Totals are always aggregated from these rows, so they agree with the
+    // listed transactions even while a rollup or ledger update is in flight
+    private record CustomerRange(Customer customer, List<Transaction> transactions) {
     }
 
-    // Private helper to set common fields using reflection (works for both DTOs)
-    private void setCommonFields(Object response, Customer customer, List<TransactionDTO> txDtos,
-                                 Map<String, Integer> monthlyRewards, int totalRewards) {
-        try {
-            response.getClass().getMethod("setCustomerId", Long.class).invoke(response, customer.getId());
-            response.getClass().getMethod("setCustName", String.class).invoke(response, customer.getCustName());
-            response.getClass().getMethod("setPhoneNo", String.class).invoke(response, customer.getPhoneNo());
-            response.getClass().getMethod("setTransactions", List.class).invoke(response, txDtos);
-            response.getClass().getMethod("setMonthlyRewards", Map.class).invoke(response, monthlyRewards);
-            response.getClass().getMethod("setTotalRewards", int.class).invoke(response, totalRewards);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to set common fields on response DTO", e);
+    private CustomerRange loadRange(Long customerId, LocalDate startDate, LocalDate endDate) {
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new RuntimeException(
+                        String.format("%s %d", env.getProperty("customer.notfound", "Customer not found:"), customerId)
+                ));
+
+        List<Transaction> transactions = transactionRepository
+                .findByCustomerIdAndDateBetween(customerId, startDate, endDate);
+
+        if (transactions.isEmpty()) {
+            throw new RuntimeException(env.getProperty("transaction.notfound", "No transactions found"));
         }
+
+        return new CustomerRange(customer, transactions);
     }
 
-    // Reward calculation
-    private int calculatePoints(double amount) {
-        if (amount <= 50) return 0;
-        if (amount <= 100) return (int) (amount - 50);
-        return (int) ((amount - 100) * 2 + 50);
+    private <T extends CustomerRewardResponse> T buildResponse(Customer customer, List<Transaction> transactions,
+                                                               Supplier<T> responseFactory) {
+        RewardAggregator.Aggregate result = aggregator.aggregate(transactions, true);
+        return mapper.fillRewardResponse(responseFactory.get(), customer, result.transactions(),
+                result.monthlyRewards(), result.totalRewards());
     }
 }
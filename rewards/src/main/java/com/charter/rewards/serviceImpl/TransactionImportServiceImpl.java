@@ -0,0 +1,251 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.dto.BulkTransactionResponseDTO;
+import com.charter.rewards.dto.TransactionImportReportDTO;
+import com.charter.rewards.dto.TransactionRequestDTO;
+import com.charter.rewards.entity.ImportCheckpoint;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.ImportCheckpointRepository;
+import com.charter.rewards.service.TransactionImportService;
+import com.charter.rewards.service.TransactionIngestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionImportServiceImpl.class);
+
+    // Rejected rows logged per chunk; the rest are only counted
+    private static final int MAX_LOGGED_ERRORS = 10;
+
+    @Autowired
+    private TransactionIngestService ingestService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Lines per chunk; each chunk is parsed by one worker and committed in its own transaction
+    @Value("${rewards.import.chunk-size:5000}")
+    private int chunkSize = 5000;
+
+    @Value("${rewards.import.threads:4}")
+    private int threads = 4;
+
+    @Override
+    public TransactionImportReportDTO importFile(Path file) throws IOException {
+        long started = System.nanoTime();
+        boolean ndjson = isNdjson(file);
+        String checkpoint = checkpointKey(file);
+        long resumeFrom = checkpointRepository.findById(checkpoint).map(ImportCheckpoint::getLastLine).orElse(0L);
+        // Grown as chunks meet customers created after this snapshot (see write)
+        Set<Long> customerIds = new HashSet<>(customerRepository.findAllIds());
+
+        TransactionImportReportDTO report = new TransactionImportReportDTO();
+        report.setFile(file.toString());
+        report.setResumedFromLine(resumeFrom);
+        report.setLastLine(resumeFrom);
+        log.info("Importing {} from line {} ({} known customers)", file, resumeFrom + 1, customerIds.size());
+
+        // Reader thread cuts the file into chunks, workers parse them, this thread writes them back in file order.
+        // At most 2 chunks per worker are in flight, which bounds memory regardless of file size.
+        ExecutorService workers = Executors.newFixedThreadPool(threads, workerThreads());
+        Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            long lineNo = skipLines(reader, resumeFrom);
+            List<String> lines = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo == 1 && !ndjson && isCsvHeader(line)) {
+                    // Covered by the first chunk's checkpoint
+                    report.setLastLine(1);
+                    continue;
+                }
+                lines.add(line);
+                if (lines.size() == chunkSize) {
+                    submit(workers, inFlight, lines, lineNo - lines.size() + 1, ndjson);
+                    lines = new ArrayList<>(chunkSize);
+                    if (inFlight.size() >= threads * 2) {
+                        write(await(inFlight.poll()), customerIds, checkpoint, report);
+                    }
+                }
+            }
+            if (!lines.isEmpty()) {
+                submit(workers, inFlight, lines, lineNo - lines.size() + 1, ndjson);
+            }
+            while (!inFlight.isEmpty()) {
+                write(await(inFlight.poll()), customerIds, checkpoint, report);
+            }
+        } catch (RuntimeException | IOException e) {
+            log.error("Import of {} stopped after line {}; run it again to resume from the checkpoint", file, report.getLastLine());
+            throw e;
+        } finally {
+            workers.shutdownNow();
+        }
+
+        report.setElapsedMs(Math.max(1, (System.nanoTime() - started) / 1_000_000));
+        report.setRowsPerSecond(report.getInserted() * 1000.0 / report.getElapsedMs());
+        log.info("Imported {}: {} rows inserted, {} rejected, {} ms, {} rows/s",
+                file, report.getInserted(), report.getRejected(), report.getElapsedMs(), Math.round(report.getRowsPerSecond()));
+        return report;
+    }
+
+    private void submit(ExecutorService workers, Deque<Future<ParsedChunk>> inFlight,
+                        List<String> lines, long firstLine, boolean ndjson) {
+        inFlight.add(workers.submit(() -> parse(lines, firstLine, ndjson)));
+    }
+
+    // Commits one chunk together with the checkpoint past it, so a chunk is either written and checkpointed or neither
+    private void write(ParsedChunk chunk, Set<Long> customerIds, String checkpoint, TransactionImportReportDTO report) {
+        long rejected = chunk.errors().size();
+        chunk.errors().stream().limit(MAX_LOGGED_ERRORS).forEach(error ->
+                log.warn("Rejected line {}: {}", error.line(), error.error()));
+        // Customers created since the import started are looked up before their rows are rejected as unknown;
+        // one query per chunk that has any, for the missing ids only
+        Set<Long> missing = new HashSet<>();
+        for (TransactionRequestDTO row : chunk.rows()) {
+            if (row.getCustomerId() != null && !customerIds.contains(row.getCustomerId())) {
+                missing.add(row.getCustomerId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            customerIds.addAll(customerRepository.findExistingIds(missing));
+        }
+        BulkTransactionResponseDTO result = ingestService.ingest(chunk.rows(), customerIds,
+                new ImportCheckpoint(checkpoint, chunk.lastLine()));
+        report.setInserted(report.getInserted() + result.getInserted());
+        rejected += result.getErrors().size();
+        result.getErrors().stream().limit(MAX_LOGGED_ERRORS).forEach(error ->
+                log.warn("Rejected line {}: {}", chunk.rowLines()[error.getIndex()], error.getError()));
+        report.setRejected(report.getRejected() + rejected);
+        report.setLastLine(chunk.lastLine());
+    }
+
+    private ParsedChunk parse(List<String> lines, long firstLine, boolean ndjson) {
+        List<TransactionRequestDTO> rows = new ArrayList<>(lines.size());
+        long[] rowLines = new long[lines.size()];
+        List<RejectedLine> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                rowLines[rows.size()] = firstLine + i;
+                rows.add(ndjson ? objectMapper.readValue(line, TransactionRequestDTO.class) : parseCsv(line));
+            } catch (Exception e) {
+                errors.add(new RejectedLine(firstLine + i, e.getMessage()));
+            }
+        }
+        return new ParsedChunk(rows, rowLines, errors, firstLine + lines.size() - 1);
+    }
+
+    // customerId,date,product,amount; product may be double-quoted
+    static TransactionRequestDTO parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 4) {
+            throw new IllegalArgumentException("expected 4 fields but found " + fields.size());
+        }
+        TransactionRequestDTO dto = new TransactionRequestDTO();
+        dto.setCustomerId(Long.valueOf(fields.get(0).trim()));
+        dto.setDate(LocalDate.parse(fields.get(1).trim()));
+        dto.setProduct(fields.get(2));
+        dto.setAmount(Double.valueOf(fields.get(3).trim()));
+        return dto;
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static boolean isCsvHeader(String line) {
+        String first = line.strip();
+        return !first.isEmpty() && !Character.isDigit(first.charAt(0));
+    }
+
+    private static boolean isNdjson(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl");
+    }
+
+    private static long skipLines(BufferedReader reader, long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count && reader.readLine() != null) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    // Checkpoints are kept in import_checkpoints per absolute file path
+    static String checkpointKey(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    private static ParsedChunk await(Future<ParsedChunk> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Chunk parsing failed", e.getCause());
+        }
+    }
+
+    private static ThreadFactory workerThreads() {
+        AtomicInteger n = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "tx-import-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private record ParsedChunk(List<TransactionRequestDTO> rows, long[] rowLines,
+                               List<RejectedLine> errors, long lastLine) {
+    }
+
+    // A line that could not be parsed, by its line number in the file
+    private record RejectedLine(long line, String error) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.dto.BulkTransactionResponseDTO;
+import com.charter.rewards.dto.TransactionRequestDTO;
+import com.charter.rewards.dto.TransactionRowErrorDTO;
+import com.charter.rewards.entity.ImportCheckpoint;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.event.CustomerChangedEvent;
+import com.charter.rewards.exception.CustomException;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.ImportCheckpointRepository;
+import com.charter.rewards.service.CustomerVersionService;
+import com.charter.rewards.service.RewardRollupService;
+import com.charter.rewards.service.TransactionIngestService;
+import com.charter.rewards.util.MonthlyRewardTotals;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class TransactionIngestServiceImpl implements TransactionIngestService {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private RewardRollupService rollupService;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private CustomerVersionService customerVersionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Environment env;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Matches hibernate.jdbc.batch_size: one JDBC batch per flush
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize = 500;
+
+    @Value("${rewards.ingest.max-rows:50000}")
+    private int maxRows = 50000;
+
+    @Override
+    @Transactional
+    public BulkTransactionResponseDTO ingest(List<TransactionRequestDTO> transactions) {
+        checkSize(transactions);
+        Set<Long> requestedIds = transactions.stream()
+                .map(TransactionRequestDTO::getCustomerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> knownIds = requestedIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(customerRepository.findExistingIds(requestedIds));
+        return insert(transactions, knownIds);
+    }
+
+    @Override
+    @Transactional
+    public BulkTransactionResponseDTO ingest(List<TransactionRequestDTO> transactions, Set<Long> knownCustomerIds) {
+        checkSize(transactions);
+        return insert(transactions, knownCustomerIds);
+    }
+
+    @Override
+    @Transactional
+    public BulkTransactionResponseDTO ingest(List<TransactionRequestDTO> transactions, Set<Long> knownCustomerIds,
+                                             ImportCheckpoint checkpoint) {
+        if (!transactions.isEmpty()) {
+            checkSize(transactions);
+        }
+        BulkTransactionResponseDTO response = insert(transactions, knownCustomerIds);
+        checkpointRepository.save(checkpoint);
+        return response;
+    }
+
+    private void checkSize(List<TransactionRequestDTO> transactions) {
+        if (transactions == null || transactions.isEmpty()) {
+            throw new CustomException(env.getProperty("error.transaction.empty", "No transactions found"));
+        }
+        if (transactions.size() > maxRows) {
+            throw new CustomException(String.format("%s %d",
+                    env.getProperty("error.ingest.too-many-rows", "Too many transactions in one request, maximum is"), maxRows));
+        }
+    }
+
+    // Invalid rows are reported and skipped; valid rows are persisted in JDBC batches and dropped from the
+    // persistence context after each flush, keeping only their monthly totals per customer for the rollup
+    private BulkTransactionResponseDTO insert(List<TransactionRequestDTO> transactions, Set<Long> knownIds) {
+        List<TransactionRowErrorDTO> errors = new ArrayList<>();
+        List<TransactionRequestDTO> valid = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            TransactionRequestDTO row = transactions.get(i);
+            String error = validate(row, knownIds);
+            if (error != null) {
+                errors.add(new TransactionRowErrorDTO(i, row == null ? null : row.getCustomerId(), error));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // Before the first insert, so a rollup rebuild of these customers runs entirely before or after this batch
+        Set<Long> customerIds = valid.stream().map(TransactionRequestDTO::getCustomerId).collect(Collectors.toSet());
+        if (!customerIds.isEmpty()) {
+            customerRepository.lockForUpdate(customerIds);
+        }
+
+        Map<Long, MonthlyRewardTotals> insertedByCustomer = new LinkedHashMap<>();
+        int inserted = 0;
+        for (TransactionRequestDTO row : valid) {
+            Transaction tx = new Transaction();
+            tx.setDate(row.getDate());
+            tx.setProduct(row.getProduct());
+            tx.setAmount(row.getAmount());
+            tx.setCustomer(customerRepository.getReferenceById(row.getCustomerId()));
+            entityManager.persist(tx);
+            insertedByCustomer.computeIfAbsent(row.getCustomerId(), id -> new MonthlyRewardTotals())
+                    .add(tx.getDate(), tx.getAmountCents());
+
+            if (++inserted % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        if (!insertedByCustomer.isEmpty()) {
+            rollupService.recordTotals(insertedByCustomer);
+        }
+        insertedByCustomer.keySet().forEach(customerId ->
+                eventPublisher.publishEvent(new CustomerChangedEvent(customerId, null)));
+        // After the events, so the new versions are served only once their listeners have run
+        customerVersionService.bump(insertedByCustomer.keySet());
+
+        BulkTransactionResponseDTO response = new BulkTransactionResponseDTO();
+        response.setReceived(transactions.size());
+        response.setInserted(inserted);
+        response.setErrors(errors);
+        return response;
+    }
+
+    private static String validate(TransactionRequestDTO row, Set<Long> knownIds) {
+        if (row == null) return "Row is empty";
+        if (row.getCustomerId() == null) return "customerId is required";
+        if (row.getDate() == null) return "date is required";
+        if (row.getProduct() == null || row.getProduct().isBlank()) return "product is required";
+        if (row.getAmount() == null || row.getAmount().isNaN() || row.getAmount().isInfinite()) return "amount is required";
+        if (row.getAmount() < 0) return "amount must not be negative";
+        if (!knownIds.contains(row.getCustomerId())) return "Customer not found";
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.service.TransactionPartitionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+// Keeps empty monthly partitions of transactions (see db/migration/mysql/V5__partition_transactions.sql) in place
+// ahead of the current month, so new rows never land in the catch-all MAXVALUE partition
+@Service
+public class TransactionPartitionServiceImpl implements TransactionPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionServiceImpl.class);
+
+    private static final String PARTITIONS_SQL = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'transactions' AND PARTITION_NAME IS NOT NULL "
+            + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${rewards.partitions.months-ahead:3}")
+    private int monthsAhead = 3;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Override
+    @Scheduled(cron = "${rewards.partitions.cron:-}")
+    public int createPartitionsAhead() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            return 0;
+        }
+        // {name, upper bound} in partition order; RANGE COLUMNS bounds read back quoted, e.g. '2027-01-01'
+        List<String[]> partitions = jdbcTemplate.query(PARTITIONS_SQL,
+                (rs, row) -> new String[]{rs.getString(1), rs.getString(2)});
+        if (partitions.size() < 2 || !"MAXVALUE".equals(partitions.get(partitions.size() - 1)[1])) {
+            log.warn("transactions is not range-partitioned with a trailing MAXVALUE partition; no partitions added");
+            return 0;
+        }
+        String catchAll = partitions.get(partitions.size() - 1)[0];
+        String lastBound = partitions.get(partitions.size() - 2)[1].replace("'", "");
+        YearMonth month = YearMonth.from(LocalDate.parse(lastBound));
+        YearMonth until = YearMonth.now(clock).plusMonths(monthsAhead);
+
+        List<String> added = new ArrayList<>();
+        for (; !month.isAfter(until); month = month.plusMonths(1)) {
+            added.add(String.format("PARTITION p%d_%02d VALUES LESS THAN ('%s')",
+                    month.getYear(), month.getMonthValue(), month.plusMonths(1).atDay(1)));
+        }
+        if (added.isEmpty()) {
+            return 0;
+        }
+        // Splitting the catch-all partition only moves rows dated past the new months, normally none
+        String sql = String.format("ALTER TABLE transactions REORGANIZE PARTITION %s INTO (%s, PARTITION %s VALUES LESS THAN (MAXVALUE))",
+                catchAll, String.join(", ", added), catchAll);
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (DataAccessException e) {
+            // Another instance may have split the same months first; the next run re-reads the partitions
+            log.warn("Adding transaction partitions failed: {}", e.getMessage());
+            return 0;
+        }
+        log.info("Added {} transaction partitions up to {}", added.size(), until);
+        return added.size();
+    }
+}
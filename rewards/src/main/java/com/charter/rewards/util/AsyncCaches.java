@@ -0,0 +1,40 @@
+package com.charter.rewards.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+// Read-through for caches whose loads hit the database. Cache.get(key, loader) runs the loader inside the map's
+// bin lock, so an invalidation from a committing transaction (still holding its connection) waits for a load
+// that waits for a connection: with the pool drained, every request hangs. Here only an incomplete future is
+// inserted under the lock and the caller completes it outside; invalidating drops the future without waiting.
+public final class AsyncCaches {
+
+    private AsyncCaches() {
+    }
+
+    // Concurrent callers for the key share one load. A null result or a failure is not cached; a caller that
+    // waited on a failed load runs its own, so exceptions reach it as the loader threw them.
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> loading);
+        if (future != loading) {
+            try {
+                return future.join();
+            } catch (CompletionException | CancellationException e) {
+                return loader.apply(key);
+            }
+        }
+        try {
+            V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // Cancelled rather than failed: Caffeine logs every failed load, and a miss here is an ordinary outcome
+            loading.cancel(false);
+            throw e;
+        }
+    }
+}
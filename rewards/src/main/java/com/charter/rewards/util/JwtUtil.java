@@ -1,6 +1,7 @@
 package com.charter.rewards.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -15,9 +16,9 @@ public class JwtUtil {
     // Secret key (keep it long enough, at least 256-bit for HS256)
     private static final String SECRET_KEY = "mysecretkeymysecretkeymysecretkey123!"; 
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
-    }
+    // Key and parser are immutable and thread-safe, so they are built once
+    private static final Key SIGNING_KEY = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private static final JwtParser PARSER = Jwts.parserBuilder().setSigningKey(SIGNING_KEY).build();
 
     // Extract username (custName)
     public String extractUsername(String token) {
@@ -31,22 +32,13 @@ public class JwtUtil {
 
     // Extract any claim using a resolver function
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    // Extract all claims
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                   .setSigningKey(getSigningKey())
-                   .build()
-                   .parseClaimsJws(token)
-                   .getBody();
-    }
-
-    // Check if token is expired
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // Verify the signature and parse the claims in one pass; throws JwtException if invalid or expired
+    public Claims parseClaims(String token) {
+        return PARSER.parseClaimsJws(token).getBody();
     }
 
     // Generate token for a customer (custName as username)
@@ -55,14 +47,14 @@ public class JwtUtil {
                    .setSubject(custName)
                    .setIssuedAt(new Date())
                    .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10)) // 10 hours
-                   .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                   .signWith(SIGNING_KEY, SignatureAlgorithm.HS256)
                    .compact();
     }
 
     // Validate token
     public boolean validateToken(String token, String custName) {
-        final String username = extractUsername(token);
-        return (username.equals(custName) && !isTokenExpired(token));
+        final Claims claims = parseClaims(token);
+        return (claims.getSubject().equals(custName) && !claims.getExpiration().before(new Date()));
     }
 
 }
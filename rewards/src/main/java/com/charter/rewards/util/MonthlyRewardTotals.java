@@ -0,0 +1,47 @@
+package com.charter.rewards.util;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Points, transaction count and amount per yyyy-MM month for one customer, accumulated without keeping the
+// transactions themselves. Months iterate in key order, so rollup writers lock month rows in the same order.
+public final class MonthlyRewardTotals {
+
+    private final Map<String, Month> months = new TreeMap<>();
+
+    public void add(LocalDate date, long amountCents) {
+        Month month = months.computeIfAbsent(YearMonth.from(date).toString(), m -> new Month());
+        month.points += RewardPointsCalculator.calculatePointsFromCents(amountCents);
+        month.txCount++;
+        month.amountCents += amountCents;
+    }
+
+    public boolean isEmpty() {
+        return months.isEmpty();
+    }
+
+    public int size() {
+        return months.size();
+    }
+
+    public void clear() {
+        months.clear();
+    }
+
+    public void forEach(MonthConsumer consumer) {
+        months.forEach((month, totals) -> consumer.accept(month, totals.points, totals.txCount, totals.amountCents));
+    }
+
+    @FunctionalInterface
+    public interface MonthConsumer {
+        void accept(String month, int points, int txCount, long amountCents);
+    }
+
+    private static final class Month {
+        private int points;
+        private int txCount;
+        private long amountCents;
+    }
+}
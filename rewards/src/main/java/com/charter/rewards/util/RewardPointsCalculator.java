@@ -0,0 +1,56 @@
+package com.charter.rewards.util;
+
+public final class RewardPointsCalculator {
+
+    // SIMD batch kernel, used when the JVM was started with --add-modules jdk.incubator.vector
+    // (-Drewards.points.vector=false forces the scalar loop)
+    private static final boolean VECTORIZED = vectorAvailable();
+
+    private RewardPointsCalculator() {
+    }
+
+    // 1 point per dollar between $50 and $100, 2 points per dollar over $100
+    public static int calculatePoints(double amount) {
+        if (amount <= 50) return 0;
+        if (amount <= 100) return (int) (amount - 50);
+        return (int) ((amount - 100) * 2 + 50);
+    }
+
+    // Same bands on an amount in cents; integer-only, equal to calculatePoints(cents / 100.0) for 2-decimal amounts
+    public static int calculatePointsFromCents(long cents) {
+        if (cents <= 5000) return 0;
+        if (cents <= 10000) return (int) ((cents - 5000) / 100);
+        return (int) ((cents - 10000) * 2 / 100 + 50);
+    }
+
+    // Batch form over cents: fills out[i] for the first length entries without allocating
+    public static void calculatePoints(long[] cents, int[] out, int length) {
+        if (VECTORIZED) {
+            VectorPointsKernel.calculatePoints(cents, out, length);
+        } else {
+            calculatePointsScalar(cents, out, length);
+        }
+    }
+
+    public static void calculatePointsScalar(long[] cents, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            out[i] = calculatePointsFromCents(cents[i]);
+        }
+    }
+
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    private static boolean vectorAvailable() {
+        if (!Boolean.parseBoolean(System.getProperty("rewards.points.vector", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorPointsKernel.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.charter.rewards.util;
+
+import com.charter.rewards.entity.Transaction;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+// Position after the last transaction of a page, in (date, id) order. Sent to clients as an opaque
+// base64url string so the format can change without breaking them.
+public record TransactionCursor(LocalDate date, long id) {
+
+    public static TransactionCursor of(Transaction tx) {
+        return new TransactionCursor(tx.getDate(), tx.getId());
+    }
+
+    public String encode() {
+        String raw = date + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // Throws IllegalArgumentException for anything encode() did not produce
+    public static TransactionCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        int separator = raw.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        try {
+            return new TransactionCursor(LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
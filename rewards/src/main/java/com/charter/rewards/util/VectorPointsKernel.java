@@ -0,0 +1,57 @@
+package com.charter.rewards.util;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+// Branch-free form of RewardPointsCalculator.calculatePointsFromCents: both bands are computed on every lane
+// and blended by mask. Only loaded once the incubator module is known to be present.
+final class VectorPointsKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    // Half-width int species so a long vector narrows to ints lane for lane (null below 128-bit vectors)
+    private static final VectorSpecies<Integer> INTS = LONGS.vectorBitSize() >= 128
+            ? VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2))
+            : null;
+
+    // x / 100 == (x * DIV100) >>> 37 for 0 <= x < 2^32; there is no vector integer divide
+    private static final long DIV100 = 1_374_389_535L;
+
+    // Largest amount whose doubled excess over $100 still fits the multiply-shift; larger vectors go scalar
+    private static final long MAX_CENTS = 10_000 + (1L << 31) - 1;
+
+    private VectorPointsKernel() {
+    }
+
+    static boolean isSupported() {
+        return INTS != null;
+    }
+
+    static void calculatePoints(long[] cents, int[] out, int length) {
+        int i = 0;
+        int bound = LONGS.loopBound(length);
+        for (; i < bound; i += LONGS.length()) {
+            LongVector c = LongVector.fromArray(LONGS, cents, i);
+            if (c.compare(VectorOperators.GT, MAX_CENTS).anyTrue()) {
+                for (int j = i; j < i + LONGS.length(); j++) {
+                    out[j] = RewardPointsCalculator.calculatePointsFromCents(cents[j]);
+                }
+                continue;
+            }
+            // Lanes outside a band produce garbage here and are masked away below
+            LongVector low = c.sub(5000).mul(DIV100).lanewise(VectorOperators.LSHR, 37);
+            LongVector high = c.sub(10000).mul(2 * DIV100).lanewise(VectorOperators.LSHR, 37).add(50);
+            VectorMask<Long> upTo100 = c.compare(VectorOperators.LE, 10000);
+            VectorMask<Long> upTo50 = c.compare(VectorOperators.LE, 5000);
+            LongVector points = high.blend(low, upTo100).blend(0, upTo50);
+            ((IntVector) points.convertShape(VectorOperators.L2I, INTS, 0)).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = RewardPointsCalculator.calculatePointsFromCents(cents[i]);
+        }
+    }
+}
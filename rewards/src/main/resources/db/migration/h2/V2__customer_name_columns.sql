@@ -0,0 +1,9 @@
+-- Same as mysql/V2: customer columns mapped by Customer, added where ddl-auto=update has not already added them
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS cust_name VARCHAR(255);
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS phone_no VARCHAR(255);
+
+UPDATE customers SET cust_name = name WHERE cust_name IS NULL;
+ALTER TABLE customers ALTER COLUMN name SET NULL;
+ALTER TABLE customers ALTER COLUMN cust_name SET NOT NULL;
+
+ALTER TABLE customers ADD CONSTRAINT uk_customers_cust_name UNIQUE (cust_name);
@@ -0,0 +1,3 @@
+-- Same as mysql/V3, as a native sequence: the first pooled block of 50 ids lies above the current max id
+CREATE SEQUENCE transactions_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE transactions_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM transactions);
@@ -0,0 +1,10 @@
+-- Monthly reward rollup, updated in the same transaction as transaction inserts.
+-- Empty after this version; built at startup (rewards.rollup.rebuild-on-empty) or with POST /admin/rewards/rollup/rebuild
+CREATE TABLE customer_monthly_rewards (
+    customer_id BIGINT NOT NULL,
+    reward_month CHAR(7) NOT NULL,
+    points INT NOT NULL,
+    tx_count INT NOT NULL,
+    amount_sum DOUBLE NOT NULL,
+    PRIMARY KEY (customer_id, reward_month)
+);
@@ -0,0 +1,4 @@
+-- H2 has no table partitioning; this version only adds the covering index used on MySQL,
+-- so query plans can be checked locally and version numbers stay aligned across vendors.
+
+CREATE INDEX idx_transactions_customer_date_id ON transactions (customer_id, date, id, amount, product);
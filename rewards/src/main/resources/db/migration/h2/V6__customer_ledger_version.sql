@@ -0,0 +1,2 @@
+-- Same as mysql/V6: per-customer version served as the ETag of /rewards and /transactions
+ALTER TABLE customers ADD COLUMN ledger_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- Transaction file import progress: the last line of the file committed so far, written in the same database
+-- transaction as the rows of that chunk, so a resumed import never writes a line twice
+CREATE TABLE import_checkpoints (
+    file_path VARCHAR(512) NOT NULL PRIMARY KEY,
+    last_line BIGINT NOT NULL
+);
@@ -0,0 +1,15 @@
+-- Customers Table
+CREATE TABLE customers (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL
+);
+
+-- Transactions Table
+CREATE TABLE transactions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    product VARCHAR(100) NOT NULL,
+    amount DECIMAL(10,2) NOT NULL,
+    CONSTRAINT fk_customer FOREIGN KEY (customer_id) REFERENCES customers(id)
+);
@@ -0,0 +1,25 @@
+-- Customer columns mapped by Customer on top of the V1 (Table.sql) schema. Databases baselined at V1 that ran with
+-- ddl-auto=update already have cust_name and phone_no, added by Hibernate as nullable VARCHAR(255), so they are
+-- only added where missing and with the same definition either way.
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'customers' AND column_name = 'cust_name') = 0,
+              'ALTER TABLE customers ADD COLUMN cust_name VARCHAR(255)', 'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'customers' AND column_name = 'phone_no') = 0,
+              'ALTER TABLE customers ADD COLUMN phone_no VARCHAR(255)', 'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- The entity does not map the Table.sql name column: keep its values as the customer name where none is set,
+-- and let inserts leave it empty
+UPDATE customers SET cust_name = name WHERE cust_name IS NULL;
+ALTER TABLE customers MODIFY name VARCHAR(100) NULL;
+ALTER TABLE customers MODIFY cust_name VARCHAR(255) NOT NULL;
+
+-- Login and JWT lookups are by name; duplicate names have to be resolved before this version applies
+ALTER TABLE customers ADD CONSTRAINT uk_customers_cust_name UNIQUE (cust_name);
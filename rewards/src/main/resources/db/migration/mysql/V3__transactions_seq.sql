@@ -0,0 +1,7 @@
+-- Id allocator for transactions (Hibernate pooled sequence, increment 50, table-backed on MySQL).
+-- The pooled optimizer hands out the 50 ids up to the value it reads, so on a database that already has
+-- transactions next_val starts a full increment above the current max id.
+CREATE TABLE transactions_seq (
+    next_val BIGINT
+);
+INSERT INTO transactions_seq SELECT COALESCE(MAX(id), 0) + 50 FROM transactions;
@@ -0,0 +1,52 @@
+-- Range-partition transactions by month of date, so date-range queries read only the partitions in range.
+-- MySQL requires every unique key of a partitioned table to contain the partitioning column, hence
+-- PRIMARY KEY (id, date) (ids stay unique: they come from transactions_seq), and does not support foreign keys
+-- on partitioned tables, so fk_customer goes (the application never deletes customers).
+-- Months after p2026_12 are split off p_future ahead of time by TransactionPartitionService.
+-- The table is copied once, as any re-partitioning of an existing table would do.
+
+CREATE TABLE transactions_partitioned (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    customer_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    product VARCHAR(100) NOT NULL,
+    amount DECIMAL(10,2) NOT NULL,
+    PRIMARY KEY (id, date),
+    -- Covering index for the per-customer date-range read and keyset pages; also the (customer, date, id) order
+    -- of the rollup, ledger and columnar streams
+    KEY idx_transactions_customer_date_id (customer_id, date, id, amount, product)
+)
+PARTITION BY RANGE COLUMNS (date) (
+    PARTITION p_history VALUES LESS THAN ('2025-01-01'),
+    PARTITION p2025_01 VALUES LESS THAN ('2025-02-01'),
+    PARTITION p2025_02 VALUES LESS THAN ('2025-03-01'),
+    PARTITION p2025_03 VALUES LESS THAN ('2025-04-01'),
+    PARTITION p2025_04 VALUES LESS THAN ('2025-05-01'),
+    PARTITION p2025_05 VALUES LESS THAN ('2025-06-01'),
+    PARTITION p2025_06 VALUES LESS THAN ('2025-07-01'),
+    PARTITION p2025_07 VALUES LESS THAN ('2025-08-01'),
+    PARTITION p2025_08 VALUES LESS THAN ('2025-09-01'),
+    PARTITION p2025_09 VALUES LESS THAN ('2025-10-01'),
+    PARTITION p2025_10 VALUES LESS THAN ('2025-11-01'),
+    PARTITION p2025_11 VALUES LESS THAN ('2025-12-01'),
+    PARTITION p2025_12 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p2026_01 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p2026_02 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p2026_03 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p2026_04 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p2026_05 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p2026_06 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p2026_07 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p2026_08 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p2026_09 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p2026_10 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p2026_11 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p2026_12 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+INSERT INTO transactions_partitioned (id, customer_id, date, product, amount)
+SELECT id, customer_id, date, product, amount FROM transactions;
+
+RENAME TABLE transactions TO transactions_unpartitioned, transactions_partitioned TO transactions;
+DROP TABLE transactions_unpartitioned;
@@ -0,0 +1,3 @@
+-- Per-customer version, incremented in the same database transaction that inserts the customer's transactions.
+-- Served as the ETag of the customer's /rewards and /transactions responses.
+ALTER TABLE customers ADD COLUMN ledger_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- Rollup amount total in integer cents like transactions.amount; a DOUBLE running sum drifts with every upsert
+ALTER TABLE customer_monthly_rewards ADD COLUMN amount_sum_cents BIGINT NOT NULL DEFAULT 0;
+UPDATE customer_monthly_rewards SET amount_sum_cents = ROUND(amount_sum * 100);
+ALTER TABLE customer_monthly_rewards ALTER COLUMN amount_sum_cents DROP DEFAULT;
+ALTER TABLE customer_monthly_rewards DROP COLUMN amount_sum;
@@ -0,0 +1,77 @@
+package com.charter.rewards.aggregation;
+
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.mapper.RewardMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RewardAggregatorTest {
+
+    private final RewardAggregator sequential = new RewardAggregator(new RewardMapper(), 1, Integer.MAX_VALUE, 1, new SimpleMeterRegistry());
+    private final RewardAggregator parallel = new RewardAggregator(new RewardMapper(), 4, 1000, 97, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        sequential.destroy();
+        parallel.destroy();
+    }
+
+    @Test
+    @DisplayName("Aggregate - Parallel Matches Sequential Exactly")
+    void testParallelMatchesSequential() {
+        List<Transaction> transactions = transactions(50_000, 7L);
+
+        RewardAggregator.Aggregate expected = sequential.aggregate(transactions, true);
+        RewardAggregator.Aggregate actual = parallel.aggregate(transactions, true);
+
+        assertEquals(expected.totalRewards(), actual.totalRewards());
+        assertEquals(expected.transactions(), actual.transactions());
+        assertEquals(expected.monthlyRewards(), actual.monthlyRewards());
+        // Same iteration order too, so the serialized JSON is byte-identical
+        assertEquals(new ArrayList<>(expected.monthlyRewards().keySet()), new ArrayList<>(actual.monthlyRewards().keySet()));
+    }
+
+    @Test
+    @DisplayName("Aggregate - Without Monthly Sums Only DTOs Are Built")
+    void testAggregateWithoutMonthly() {
+        List<Transaction> transactions = transactions(5_000, 11L);
+
+        RewardAggregator.Aggregate result = parallel.aggregate(transactions, false);
+
+        assertNull(result.monthlyRewards());
+        assertEquals(0, result.totalRewards());
+        assertEquals(sequential.aggregate(transactions, false).transactions(), result.transactions());
+    }
+
+    @Test
+    @DisplayName("Map In Order - Parallel Results Keep Input Order")
+    void testMapInOrder() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            items.add(i);
+        }
+
+        assertEquals(items, parallel.mapInOrder(items, 10_000, i -> i));
+        assertEquals(items, parallel.mapInOrder(items, 10, i -> i));
+    }
+
+    // Amounts over all reward bands and dates over 3 years, so maps have enough months to resize
+    private static List<Transaction> transactions(int count, long seed) {
+        Random random = new Random(seed);
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Transaction tx = new Transaction();
+            tx.setId((long) i);
+            tx.setDate(LocalDate.of(2023, 1, 1).plusDays(random.nextInt(3 * 365)));
+            tx.setAmount(Math.round(random.nextDouble() * 30000) / 100.0);
+            tx.setProduct("Product " + (i % 7));
+            transactions.add(tx);
+        }
+        return transactions;
+    }
+}
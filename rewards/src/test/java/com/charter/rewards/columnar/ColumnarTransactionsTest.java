@@ -0,0 +1,113 @@
+package com.charter.rewards.columnar;
+
+import com.charter.rewards.util.RewardPointsCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarTransactionsTest {
+
+    @Test
+    @DisplayName("Columnar - Range Totals Match Per-Transaction Calculation")
+    void testRewardsMatchDoubleCalculation() {
+        List<Object[]> rows = rows(20_000, 3L);
+        ColumnarTransactions store = build(rows, false);
+
+        LocalDate from = LocalDate.of(2024, 3, 15);
+        LocalDate to = LocalDate.of(2024, 11, 2);
+        for (long customerId = 1; customerId <= 50; customerId++) {
+            Map<String, Integer> expectedMonths = new HashMap<>();
+            int expectedTotal = 0;
+            int expectedCount = 0;
+            for (Object[] row : rows) {
+                LocalDate date = (LocalDate) row[1];
+                if ((long) row[0] == customerId && !date.isBefore(from) && !date.isAfter(to)) {
+                    int points = RewardPointsCalculator.calculatePoints((double) row[2]);
+                    expectedMonths.merge(YearMonth.from(date).toString(), points, Integer::sum);
+                    expectedTotal += points;
+                    expectedCount++;
+                }
+            }
+
+            RewardTotals totals = store.rewards(customerId, from, to);
+            assertEquals(expectedMonths, totals.monthlyRewards());
+            assertEquals(expectedTotal, totals.totalRewards());
+            assertEquals(expectedCount, totals.transactionCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Columnar - Range Bounds Are Inclusive, Unknown Customer Is Empty")
+    void testRangeBounds() {
+        ColumnarTransactions store = ColumnarTransactions.builder(4)
+                .add(1L, LocalDate.of(2025, 7, 31), 120.0, "Laptop")
+                .add(1L, LocalDate.of(2025, 8, 1), 75.0, "Headphones")
+                .add(1L, LocalDate.of(2025, 8, 31), 120.0, "Laptop")
+                .add(2L, LocalDate.of(2025, 8, 15), 200.0, "Phone")
+                .build(false);
+
+        RewardTotals august = store.rewards(1L, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31));
+        assertEquals(Map.of("2025-08", 115), august.monthlyRewards());
+        assertEquals(2, august.transactionCount());
+        assertEquals(0, store.rewards(3L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)).transactionCount());
+        assertEquals("Headphones", store.product(1));
+        assertEquals(7500L, store.amountCents(1));
+        assertEquals(3, store.productCount());
+        assertEquals(2, store.summary().size());
+        assertEquals(250, store.summary().get(1).totalRewards());
+    }
+
+    @Test
+    @DisplayName("Columnar - Off-Heap Columns Give The Same Results")
+    void testOffHeapMatchesHeap() {
+        List<Object[]> rows = rows(5_000, 9L);
+        ColumnarTransactions heap = build(rows, false);
+        ColumnarTransactions direct = build(rows, true);
+
+        assertTrue(direct.isOffHeap());
+        assertEquals(heap.summary(), direct.summary());
+        assertEquals(heap.columnBytes(), direct.columnBytes());
+        assertEquals(24L * rows.size(), heap.columnBytes());
+    }
+
+    @Test
+    @DisplayName("Columnar - Unsorted Input Rejected")
+    void testUnsortedRejected() {
+        ColumnarTransactions.Builder builder = ColumnarTransactions.builder(2)
+                .add(2L, LocalDate.of(2025, 8, 2), 10.0, "A");
+        assertThrows(IllegalArgumentException.class, () -> builder.add(2L, LocalDate.of(2025, 8, 1), 10.0, "A"));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(1L, LocalDate.of(2025, 8, 3), 10.0, "A"));
+    }
+
+    @Test
+    @DisplayName("Points From Cents - Same As Double Calculation For Every Cent Up To $400")
+    void testCentsMatchDouble() {
+        for (long cents = 0; cents <= 40_000; cents++) {
+            assertEquals(RewardPointsCalculator.calculatePoints(cents / 100.0),
+                    RewardPointsCalculator.calculatePointsFromCents(cents), "cents=" + cents);
+        }
+    }
+
+    private static ColumnarTransactions build(List<Object[]> rows, boolean offHeap) {
+        ColumnarTransactions.Builder builder = ColumnarTransactions.builder(16);
+        for (Object[] row : rows) {
+            builder.add((long) row[0], (LocalDate) row[1], (double) row[2], (String) row[3]);
+        }
+        return builder.build(offHeap);
+    }
+
+    // {customerId, date, amount, product} sorted by customer then date
+    private static List<Object[]> rows(int count, long seed) {
+        Random random = new Random(seed);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{1L + random.nextInt(50), LocalDate.of(2024, 1, 1).plusDays(random.nextInt(730)),
+                    Math.round(random.nextDouble() * 30000) / 100.0, "Product " + random.nextInt(20)});
+        }
+        rows.sort(Comparator.<Object[], Long>comparing(r -> (Long) r[0]).thenComparing(r -> (LocalDate) r[1]));
+        return rows;
+    }
+}
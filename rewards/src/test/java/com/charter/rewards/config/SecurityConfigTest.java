@@ -0,0 +1,128 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.dto.CustomerDTO;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.service.RewardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// /actuator/prometheus is open to the scrape addresses only; every other actuator endpoint keeps needing a token.
+// /admin/** needs ROLE_ADMIN, which a self-registered customer does not get
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:security;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "rewards.metrics.scrape-addresses=10.20.0.0/16, 127.0.0.1",
+        "rewards.security.admins=Security Admin",
+        "rewards.security.bcrypt.strength=4"
+})
+@AutoConfigureMockMvc
+// Tests leave the Prometheus registry out unless asked for
+@AutoConfigureObservability
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @BeforeEach
+    void setUp() {
+        register("Security Customer", "9200000001");
+        register("Security Admin", "9200000002");
+    }
+
+    @Test
+    @DisplayName("Security - Prometheus Scrape From An Allowed Subnet Needs No Token")
+    void testScrapeFromAllowedSubnet() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(from("10.20.3.4")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("jvm_memory_used_bytes")));
+    }
+
+    @Test
+    @DisplayName("Security - Prometheus From Elsewhere Without A Token Is Refused")
+    void testScrapeFromOtherAddress() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(from("192.168.1.9")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Security - Other Actuator Endpoints Are Not Opened To The Scrape Addresses")
+    void testMetricsStillAuthenticated() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(from("10.20.3.4")))
+                .andExpect(status().isForbidden());
+    }
+
+    private static RequestPostProcessor from(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    @Test
+    @DisplayName("Security - Customer Token Cannot Rebuild The Rollup")
+    void testRollupRebuildNeedsAdmin() throws Exception {
+        mockMvc.perform(post("/admin/rewards/rollup/rebuild").header(HttpHeaders.AUTHORIZATION, bearer("Security Customer", "9200000001")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/admin/rewards/rollup/rebuild").header(HttpHeaders.AUTHORIZATION, bearer("Security Admin", "9200000002")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Security - Customer Token Cannot Check Or Repair The Ledger")
+    void testLedgerNeedsAdmin() throws Exception {
+        String customer = bearer("Security Customer", "9200000001");
+        mockMvc.perform(get("/admin/rewards/ledger/check").header(HttpHeaders.AUTHORIZATION, customer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/admin/rewards/ledger/repair").header(HttpHeaders.AUTHORIZATION, customer))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Security - Customer Token Cannot Reload The Columnar Snapshot")
+    void testColumnarNeedsAdmin() throws Exception {
+        String customer = bearer("Security Customer", "9200000001");
+        mockMvc.perform(post("/admin/rewards/columnar/reload").header(HttpHeaders.AUTHORIZATION, customer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/admin/rewards/columnar/stats").header(HttpHeaders.AUTHORIZATION, customer))
+                .andExpect(status().isForbidden());
+    }
+
+    private void register(String name, String phoneNo) {
+        if (!customerRepository.existsByCustName(name)) {
+            CustomerDTO customer = new CustomerDTO();
+            customer.setCustName(name);
+            customer.setPhoneNo(phoneNo);
+            rewardService.createCustomer(customer);
+        }
+    }
+
+    private String bearer(String name, String phoneNo) throws Exception {
+        return "Bearer " + mockMvc.perform(post("/customer/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"custName\":\"" + name + "\",\"phoneNo\":\"" + phoneNo + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.dto.RewardResponseDTO;
+import com.charter.rewards.dto.RewardRows;
+import com.charter.rewards.dto.SummaryResponseDTO;
+import com.charter.rewards.dto.TransactionDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+// The binary converters decode to the same DTOs as the JSON mapper, RewardRows included
+@JsonTest
+@Import(WireFormatConfig.class)
+class WireFormatConfigTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    private RewardRows rows;
+
+    @BeforeEach
+    void setUp() {
+        List<RewardRows.Row> transactions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            transactions.add(new RewardRows.Row(LocalDate.of(2025, 7, 1).plusDays(i % 60), 4550 + i * 100L,
+                    "Product " + i % 4, i));
+        }
+        rows = new RewardRows(1L, "John Doe", null, Map.of("2025-07", 900, "2025-08", 1000), 1900,
+                transactions, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 8, 31));
+    }
+
+    @Test
+    @DisplayName("Wire Formats - CBOR And Smile Decode To The JSON Response, In Fewer Bytes")
+    void testRewardRowsRoundTrip() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(rows);
+        RewardResponseDTO expected = objectMapper.readValue(json, RewardResponseDTO.class);
+
+        for (ObjectMapper binary : List.of(cborConverter.getObjectMapper(), smileConverter.getObjectMapper())) {
+            byte[] encoded = binary.writeValueAsBytes(rows);
+            assertEquals(expected, binary.readValue(encoded, RewardResponseDTO.class));
+            assertTrue(encoded.length < json.length, encoded.length + " >= " + json.length);
+        }
+        assertEquals(200, expected.getTransactions().size());
+        assertEquals("2025-08-31", expected.getTimeFrame().get("endDate"));
+    }
+
+    @Test
+    @DisplayName("Wire Formats - Dates Stay ISO Strings Like In JSON")
+    void testSummaryRoundTrip() throws Exception {
+        TransactionDTO tx = new TransactionDTO();
+        tx.setDate(LocalDate.of(2025, 8, 1));
+        tx.setAmount(120.0);
+        tx.setProduct("Product B");
+        tx.setRewardPoints(90);
+        SummaryResponseDTO summary = new SummaryResponseDTO();
+        summary.setCustomerId(1L);
+        summary.setTransactions(List.of(tx));
+        summary.setMonthlyRewards(Map.of("2025-08", 90));
+        summary.setTotalRewards(90);
+
+        ObjectMapper smile = smileConverter.getObjectMapper();
+        List<SummaryResponseDTO> decoded = smile.readValue(smile.writeValueAsBytes(List.of(summary)),
+                new TypeReference<List<SummaryResponseDTO>>() { });
+
+        assertEquals(List.of(summary), decoded);
+        assertEquals("2025-08-01", smile.readTree(smile.writeValueAsBytes(tx)).get("date").asText());
+    }
+}
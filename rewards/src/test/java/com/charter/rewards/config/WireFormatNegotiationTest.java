@@ -0,0 +1,130 @@
+package com.charter.rewards.config;
+
+import com.charter.rewards.dto.CustomerDTO;
+import com.charter.rewards.dto.CustomerResponseDTO;
+import com.charter.rewards.dto.RewardResponseDTO;
+import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.service.RewardService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Content negotiation through the MVC converter list: the binary formats only when asked for by name,
+// JSON for a missing or wildcard Accept header
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wire-format;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "rewards.security.bcrypt.strength=4"
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class WireFormatNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired
+    private RewardService rewardService;
+
+    private static Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        if (customerId == null) {
+            TransactionDTO tx = new TransactionDTO();
+            tx.setDate(LocalDate.of(2025, 8, 10));
+            tx.setAmount(120.0);
+            tx.setProduct("Laptop");
+            CustomerDTO customer = new CustomerDTO();
+            customer.setCustName("Wire Format");
+            customer.setPhoneNo("9100000001");
+            customer.setTransactions(List.of(tx));
+            CustomerResponseDTO created = rewardService.createCustomer(customer);
+            customerId = created.getId();
+        }
+    }
+
+    @Test
+    @DisplayName("Wire Formats - Accept application/cbor Is Served By The CBOR Converter")
+    void testCbor() throws Exception {
+        MvcResult result = mockMvc.perform(rewards().accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        assertEquals(json(), cborConverter.getObjectMapper()
+                .readValue(result.getResponse().getContentAsByteArray(), RewardResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Wire Formats - Accept application/x-jackson-smile Is Served By The Smile Converter")
+    void testSmile() throws Exception {
+        MvcResult result = mockMvc.perform(rewards().accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        assertEquals(json(), smileConverter.getObjectMapper()
+                .readValue(result.getResponse().getContentAsByteArray(), RewardResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Wire Formats - No Accept Header Gets JSON")
+    void testNoAcceptHeader() throws Exception {
+        mockMvc.perform(rewards())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalRewards").value(90));
+    }
+
+    @Test
+    @DisplayName("Wire Formats - Accept */* Gets JSON")
+    void testWildcardAccept() throws Exception {
+        mockMvc.perform(rewards().header(HttpHeaders.ACCEPT, MediaType.ALL_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalRewards").value(90));
+    }
+
+    private MockHttpServletRequestBuilder rewards() {
+        return get("/api/rewards/customers/{customerId}/rewards", customerId)
+                .param("startDate", "2025-08-01")
+                .param("endDate", "2025-08-31");
+    }
+
+    private RewardResponseDTO json() throws Exception {
+        String body = mockMvc.perform(rewards().accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, RewardResponseDTO.class);
+    }
+}
@@ -1,16 +1,28 @@
 package com.charter.rewards.controller;
 
 import com.charter.rewards.dto.*;
+import com.charter.rewards.service.CustomerVersionService;
 import com.charter.rewards.service.RewardService;
+import com.charter.rewards.service.TransactionIngestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -23,14 +35,35 @@ class RewardControllerTest {
     @Mock
     private RewardService rewardService;
 
+    @Mock
+    private TransactionIngestService transactionIngestService;
+
+    @Mock
+    private CustomerVersionService customerVersionService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
     private CustomerDTO customerDTO;
     private CustomerResponseDTO customerResponseDTO;
     private TransactionDTO txDto1, txDto2;
     private SummaryResponseDTO summaryResponseDTO;
-    private RewardResponseDTO rewardResponseDTO;
+    private RewardRows rewardRows;
+    private MockHttpServletRequest httpRequest;
+    private MockHttpServletResponse httpResponse;
+    private ServletWebRequest webRequest;
 
     @BeforeEach
     void setUp() {
+        httpRequest = new MockHttpServletRequest("GET", "/api/rewards/customers/1/rewards");
+        httpResponse = new MockHttpServletResponse();
+        webRequest = new ServletWebRequest(httpRequest, httpResponse);
+        // Nothing cached unless a test says so (a mock answers 0, not null, for a Long)
+        when(rewardService.getCachedRewardsVersion(any(), any(), any())).thenReturn(null);
+        when(rewardService.getCachedTransactionsVersion(any())).thenReturn(null);
+
         customerDTO = new CustomerDTO();
         customerDTO.setCustName("John Doe");
         customerDTO.setPhoneNo("1234567890");
@@ -58,13 +91,8 @@ class RewardControllerTest {
         summaryResponseDTO.setTotalRewards(90);
         summaryResponseDTO.setMonthlyRewards(Map.of("2025-08", 90));
 
-        rewardResponseDTO = new RewardResponseDTO();
-        rewardResponseDTO.setCustomerId(1L);
-        rewardResponseDTO.setCustName("John Doe");
-        rewardResponseDTO.setTransactions(Arrays.asList(txDto1, txDto2));
-        rewardResponseDTO.setTotalRewards(90);
-        rewardResponseDTO.setMonthlyRewards(Map.of("2025-08", 90));
-        rewardResponseDTO.setTimeFrame(Map.of("startDate", "2025-08-01", "endDate", "2025-08-31"));
+        rewardRows = new RewardRows(1L, "John Doe", null, Map.of("2025-08", 90), 90, Collections.emptyList(),
+                LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31));
     }
 
     // ---------------- POST /customers ----------------
@@ -87,7 +115,7 @@ class RewardControllerTest {
     void testGetCustomerTransactionsSuccess() {
         when(rewardService.getCustomerTransactions(1L)).thenReturn(Arrays.asList(txDto1, txDto2));
 
-        ResponseEntity<List<TransactionDTO>> response = rewardController.getCustomerTransactions(1L);
+        ResponseEntity<List<TransactionDTO>> response = rewardController.getCustomerTransactions(1L, webRequest);
 
         assertNotNull(response);
         assertEquals(200, response.getStatusCodeValue());
@@ -101,13 +129,29 @@ class RewardControllerTest {
     void testGetCustomerTransactionsEmpty() {
         when(rewardService.getCustomerTransactions(1L)).thenReturn(Collections.emptyList());
 
-        ResponseEntity<List<TransactionDTO>> response = rewardController.getCustomerTransactions(1L);
+        ResponseEntity<List<TransactionDTO>> response = rewardController.getCustomerTransactions(1L, webRequest);
 
         assertNotNull(response);
         assertTrue(response.getBody().isEmpty());
         verify(rewardService, times(1)).getCustomerTransactions(1L);
     }
 
+    @Test
+    @DisplayName("Should return a page of transactions with the next cursor")
+    void testGetCustomerTransactionsPage() {
+        TransactionPageDTO page = new TransactionPageDTO();
+        page.setTransactions(Arrays.asList(txDto1, txDto2));
+        page.setNextCursor("cursor");
+        when(rewardService.getCustomerTransactions(1L, 2, null)).thenReturn(page);
+
+        ResponseEntity<TransactionPageDTO> response = rewardController.getCustomerTransactionsPage(1L, 2, null, webRequest);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(2, response.getBody().getTransactions().size());
+        assertEquals("cursor", response.getBody().getNextCursor());
+        verify(rewardService, times(1)).getCustomerTransactions(1L, 2, null);
+    }
+
     // ---------------- GET /summary ----------------
     @Test
     @DisplayName("Should return reward summary successfully")
@@ -134,21 +178,44 @@ class RewardControllerTest {
         verify(rewardService, times(1)).getRewardSummary();
     }
 
+    // ---------------- GET /summary/stream ----------------
+    @Test
+    @DisplayName("Should stream one NDJSON line per customer summary")
+    @SuppressWarnings("unchecked")
+    void testStreamRewardSummary() throws Exception {
+        doAnswer(i -> {
+            Consumer<SummaryResponseDTO> sink = i.getArgument(0);
+            sink.accept(summaryResponseDTO);
+            sink.accept(summaryResponseDTO);
+            return null;
+        }).when(rewardService).streamRewardSummary(any(Consumer.class));
+
+        ResponseEntity<StreamingResponseBody> response = rewardController.streamRewardSummary();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        SummaryResponseDTO first = objectMapper.readValue(lines[0], SummaryResponseDTO.class);
+        assertEquals(90, first.getTotalRewards());
+        assertEquals("2025-08-10", first.getTransactions().get(1).getDate().toString());
+    }
+
     // ---------------- GET /customers/{id}/rewards ----------------
     @Test
     @DisplayName("Should return rewards for customer successfully within timeframe")
     void testGetRewardsForCustomerSuccess() {
         LocalDate start = LocalDate.of(2025, 8, 1);
         LocalDate end = LocalDate.of(2025, 8, 31);
-        when(rewardService.getRewardsForCustomer(1L, start, end)).thenReturn(rewardResponseDTO);
+        when(rewardService.getRewardRowsForCustomer(1L, start, end)).thenReturn(rewardRows);
 
-        ResponseEntity<RewardResponseDTO> response = rewardController.getRewardsForCustomer(1L, start, end);
+        ResponseEntity<RewardRows> response = rewardController.getRewardsForCustomer(1L, start, end, webRequest);
 
         assertNotNull(response);
         assertEquals(200, response.getStatusCodeValue());
-        assertEquals(90, response.getBody().getTotalRewards());
-        assertEquals("2025-08-01", response.getBody().getTimeFrame().get("startDate"));
-        verify(rewardService, times(1)).getRewardsForCustomer(1L, start, end);
+        assertEquals(90, response.getBody().totalRewards());
+        assertEquals(start, response.getBody().startDate());
+        verify(rewardService, times(1)).getRewardRowsForCustomer(1L, start, end);
     }
 
     @Test
@@ -156,15 +223,87 @@ class RewardControllerTest {
     void testGetRewardsForCustomerNoTransactions() {
         LocalDate start = LocalDate.of(2025, 8, 1);
         LocalDate end = LocalDate.of(2025, 8, 31);
-        when(rewardService.getRewardsForCustomer(1L, start, end))
+        when(rewardService.getRewardRowsForCustomer(1L, start, end))
                 .thenThrow(new RuntimeException("No transactions found"));
 
         RuntimeException ex = assertThrows(RuntimeException.class, () ->
-                rewardController.getRewardsForCustomer(1L, start, end)
+                rewardController.getRewardsForCustomer(1L, start, end, webRequest)
         );
 
         assertEquals("No transactions found", ex.getMessage());
-        verify(rewardService, times(1)).getRewardsForCustomer(1L, start, end);
+        verify(rewardService, times(1)).getRewardRowsForCustomer(1L, start, end);
+    }
+
+    // ---------------- ETag / If-None-Match ----------------
+    @Test
+    @DisplayName("ETag - Customer Ledger Version Sent As A Weak ETag")
+    void testGetRewardsForCustomerSetsEtag() {
+        LocalDate start = LocalDate.of(2025, 8, 1);
+        LocalDate end = LocalDate.of(2025, 8, 31);
+        when(customerVersionService.getVersion(1L)).thenReturn(7L);
+        when(rewardService.getRewardRowsForCustomer(1L, start, end)).thenReturn(rewardRows);
+
+        ResponseEntity<RewardRows> response = rewardController.getRewardsForCustomer(1L, start, end, webRequest);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("W/\"7\"", httpResponse.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("ETag - Matching If-None-Match Answered 304 Without Calling The Service")
+    void testGetRewardsForCustomerNotModified() {
+        LocalDate start = LocalDate.of(2025, 8, 1);
+        LocalDate end = LocalDate.of(2025, 8, 31);
+        when(customerVersionService.getVersion(1L)).thenReturn(7L);
+        httpRequest.addHeader("If-None-Match", "W/\"7\"");
+
+        assertNull(rewardController.getRewardsForCustomer(1L, start, end, webRequest));
+        assertNull(rewardController.getCustomerTransactions(1L, webRequest));
+        assertEquals(304, httpResponse.getStatus());
+        verify(rewardService, never()).getRewardRowsForCustomer(any(), any(), any());
+        verify(rewardService, never()).getCustomerTransactions(any());
+    }
+
+    @Test
+    @DisplayName("ETag - Version Of A Cached Response Used Without Reading It")
+    void testNotModifiedFromCachedVersion() {
+        LocalDate start = LocalDate.of(2025, 8, 1);
+        LocalDate end = LocalDate.of(2025, 8, 31);
+        when(rewardService.getCachedRewardsVersion(1L, start, end)).thenReturn(7L);
+        when(rewardService.getCachedTransactionsVersion(1L)).thenReturn(7L);
+        httpRequest.addHeader("If-None-Match", "W/\"7\"");
+
+        assertNull(rewardController.getRewardsForCustomer(1L, start, end, webRequest));
+        assertNull(rewardController.getCustomerTransactions(1L, webRequest));
+        assertEquals(304, httpResponse.getStatus());
+        assertEquals("W/\"7\"", httpResponse.getHeader("ETag"));
+        verifyNoInteractions(customerVersionService);
+        verify(rewardService, never()).getRewardRowsForCustomer(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("ETag - Stale If-None-Match Gets The Current Body")
+    void testGetCustomerTransactionsModified() {
+        when(customerVersionService.getVersion(1L)).thenReturn(8L);
+        when(rewardService.getCustomerTransactions(1L)).thenReturn(Arrays.asList(txDto1, txDto2));
+        httpRequest.addHeader("If-None-Match", "W/\"7\"");
+
+        ResponseEntity<List<TransactionDTO>> response = rewardController.getCustomerTransactions(1L, webRequest);
+
+        assertEquals(2, response.getBody().size());
+        assertEquals(200, httpResponse.getStatus());
+        assertEquals("W/\"8\"", httpResponse.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("ETag - None While The Version Is Unknown")
+    void testNoEtagWithoutVersion() {
+        when(customerVersionService.getVersion(1L)).thenReturn(null);
+        when(rewardService.getCustomerTransactions(1L)).thenReturn(Collections.emptyList());
+        httpRequest.addHeader("If-None-Match", "W/\"7\"");
+
+        assertNotNull(rewardController.getCustomerTransactions(1L, webRequest));
+        assertNull(httpResponse.getHeader("ETag"));
     }
 
     // ---------------- Edge Cases ----------------
@@ -173,7 +312,7 @@ class RewardControllerTest {
     void testGetCustomerTransactionsNullList() {
         when(rewardService.getCustomerTransactions(1L)).thenReturn(null);
 
-        ResponseEntity<List<TransactionDTO>> response = rewardController.getCustomerTransactions(1L);
+        ResponseEntity<List<TransactionDTO>> response = rewardController.getCustomerTransactions(1L, webRequest);
         assertNull(response.getBody());
         verify(rewardService, times(1)).getCustomerTransactions(1L);
     }
@@ -187,6 +326,26 @@ class RewardControllerTest {
         assertNull(response.getBody());
         verify(rewardService, times(1)).getRewardSummary();
     }
-}
-
 
+    @Test
+    @DisplayName("Bulk Transactions - Delegates To Ingest Service")
+    void testIngestTransactions() {
+        TransactionRequestDTO row = new TransactionRequestDTO();
+        row.setCustomerId(1L);
+        row.setDate(LocalDate.of(2025, 8, 1));
+        row.setProduct("Product A");
+        row.setAmount(40.0);
+
+        BulkTransactionResponseDTO result = new BulkTransactionResponseDTO();
+        result.setReceived(1);
+        result.setInserted(1);
+        result.setErrors(Collections.emptyList());
+        when(transactionIngestService.ingest(List.of(row))).thenReturn(result);
+
+        ResponseEntity<BulkTransactionResponseDTO> response = rewardController.ingestTransactions(List.of(row));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(1, response.getBody().getInserted());
+        assertTrue(response.getBody().getErrors().isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package com.charter.rewards.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+        registry = new SimpleMeterRegistry();
+        dataSource.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Limiter - Permit Held Until Connection Closed")
+    void testPermitReleasedOnClose() throws SQLException {
+        Connection first = dataSource.getConnection();
+        assertEquals(1, dataSource.getAvailablePermits());
+        assertEquals(1.0, registry.get("rewards.jdbc.limiter.active").gauge().value());
+
+        first.close();
+        first.close();
+
+        assertEquals(2, dataSource.getAvailablePermits());
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("Limiter - Times Out When All Permits Are Held")
+    void testTimeoutWhenExhausted() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        assertEquals(1.0, registry.get("rewards.jdbc.limiter.rejected").counter().count());
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Limiter - Permit Returned When Pool Fails")
+    void testPermitReleasedOnFailure() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Limiter - Other Calls Go To The Real Connection")
+    void testDelegatesCalls() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        Connection limited = dataSource.getConnection();
+
+        assertTrue(limited.getAutoCommit());
+        doThrow(new SQLException("closed")).when(connection).commit();
+        assertThrows(SQLException.class, limited::commit);
+    }
+}
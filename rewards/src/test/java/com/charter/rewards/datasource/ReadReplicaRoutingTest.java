@@ -0,0 +1,104 @@
+package com.charter.rewards.datasource;
+
+import com.charter.rewards.dto.CustomerDTO;
+import com.charter.rewards.dto.CustomerResponseDTO;
+import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.service.RewardService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two in-memory H2 databases: the primary, and a replica with the same schema but only its own rows, so every read
+// shows which side served it. Nothing replicates between them.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "rewards.datasource.replicas.enabled=true",
+        "rewards.datasource.replicas.urls=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "rewards.datasource.replicas.read-your-writes=1h",
+        // H2 has no SHOW REPLICA STATUS; the lag check runs on a query instead
+        "rewards.datasource.replicas.lag-query=SELECT 0",
+        "rewards.cache.rewards.enabled=false",
+        "rewards.cache.transactions.enabled=false",
+        "rewards.security.user-cache.max-size=0",
+        "rewards.security.bcrypt.strength=4"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final long REPLICA_CUSTOMER = 1000L;
+    private static final JdbcTemplate replica = replica();
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Created before the context, so the health check finds it up
+    private static JdbcTemplate replica() {
+        DataSource dataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO customers (id, cust_name, phone_no) VALUES (?, 'Replica Customer', 'x')", REPLICA_CUSTOMER);
+        jdbc.update("INSERT INTO transactions (id, customer_id, date, product, amount) VALUES (1, ?, DATE '2025-03-10', 'Laptop', 120.00)",
+                REPLICA_CUSTOMER);
+        return jdbc;
+    }
+
+    @Test
+    @DisplayName("Read Replica - Read-Only Lookups Served By The Replica")
+    void testReadsFromReplica() {
+        List<TransactionDTO> transactions = rewardService.getCustomerTransactions(REPLICA_CUSTOMER);
+
+        assertEquals(1, transactions.size());
+        assertEquals("Laptop", transactions.get(0).getProduct());
+        assertEquals("Replica Customer", userDetailsService.loadUserByUsername("Replica Customer").getUsername());
+        assertTrue(meterRegistry.get("rewards.datasource.replica.connections").tag("replica", "replica-1").counter().count() > 0);
+    }
+
+    @Test
+    @DisplayName("Read Replica - Writes Go To The Primary, The Customer's Own Reads Follow Them There")
+    void testWritesOnPrimaryAndReadYourWrites() {
+        TransactionDTO tx = new TransactionDTO();
+        tx.setDate(LocalDate.of(2025, 4, 2));
+        tx.setAmount(75.0);
+        tx.setProduct("Phone");
+        CustomerDTO customer = new CustomerDTO();
+        customer.setCustName("Primary Customer");
+        customer.setPhoneNo("9000000001");
+        customer.setTransactions(List.of(tx));
+        CustomerResponseDTO created = rewardService.createCustomer(customer);
+
+        assertEquals(1, new JdbcTemplate(primaryDataSource).queryForObject(
+                "SELECT COUNT(*) FROM customers WHERE cust_name = 'Primary Customer'", Integer.class));
+        assertEquals(0, replica.queryForObject(
+                "SELECT COUNT(*) FROM customers WHERE cust_name = 'Primary Customer'", Integer.class));
+
+        // Missing on the replica, so these only succeed on the primary
+        assertEquals("Phone", rewardService.getCustomerTransactions(created.getId()).get(0).getProduct());
+        assertEquals("Primary Customer", userDetailsService.loadUserByUsername("Primary Customer").getUsername());
+        assertTrue(meterRegistry.get("rewards.datasource.replica.primary").tag("reason", "read-your-writes").counter().count() >= 2);
+    }
+}
@@ -0,0 +1,38 @@
+package com.charter.rewards.datasource;
+
+import com.charter.rewards.event.CustomerChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), nanos::get);
+
+    @Test
+    @DisplayName("Read Your Writes - Changed Customer Read On The Primary Until The Window Closes")
+    void testWindow() {
+        readYourWrites.onCustomerChanged(new CustomerChangedEvent(7L, "Jack"));
+
+        assertTrue(readYourWrites.forCustomer(7L, ReadRouting::isPrimaryRequired));
+        assertTrue(readYourWrites.forCustomerName("Jack", ReadRouting::isPrimaryRequired));
+        assertFalse(readYourWrites.forCustomer(8L, ReadRouting::isPrimaryRequired));
+        assertFalse(readYourWrites.forCustomerName("Jill", ReadRouting::isPrimaryRequired));
+
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertFalse(readYourWrites.forCustomer(7L, ReadRouting::isPrimaryRequired));
+        assertFalse(readYourWrites.forCustomerName("Jack", ReadRouting::isPrimaryRequired));
+    }
+
+    @Test
+    @DisplayName("Read Your Writes - Nothing Tracked Without Replicas")
+    void testDisabled() {
+        ReadYourWrites disabled = new ReadYourWrites(false, Duration.ofSeconds(5));
+        disabled.onCustomerChanged(new CustomerChangedEvent(7L, "Jack"));
+
+        assertFalse(disabled.forCustomer(7L, ReadRouting::isPrimaryRequired));
+    }
+}
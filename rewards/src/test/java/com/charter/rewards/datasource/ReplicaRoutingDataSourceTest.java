@@ -0,0 +1,162 @@
+package com.charter.rewards.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection connection1;
+
+    @Mock
+    private Connection connection2;
+
+    private ReplicaRoutingDataSource dataSource;
+    private SimpleMeterRegistry registry;
+    // Lag reported per connection by the stub lag check
+    private final Map<Connection, Duration> lags = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenReturn(connection1);
+        when(replica2.getConnection()).thenReturn(connection2);
+        when(connection1.isValid(anyInt())).thenReturn(true);
+        when(connection2.isValid(anyInt())).thenReturn(true);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        lags.put(connection1, Duration.ZERO);
+        lags.put(connection2, Duration.ZERO);
+        ReplicaLag lag = (connection, timeoutSeconds) -> lags.get(connection);
+        dataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(1), lag, Duration.ofSeconds(10));
+        registry = new SimpleMeterRegistry();
+        dataSource.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Replica Routing - Round-Robin Over The Replicas")
+    void testRoundRobin() throws SQLException {
+        assertSame(connection1, dataSource.getConnection());
+        assertSame(connection2, dataSource.getConnection());
+        assertSame(connection1, dataSource.getConnection());
+
+        verify(primary, never()).getConnection();
+        assertEquals(2.0, registry.get("rewards.datasource.replica.connections").tag("replica", "replica-1").counter().count());
+    }
+
+    @Test
+    @DisplayName("Replica Routing - Failed Replica Skipped Until The Health Check Passes")
+    void testFailedReplicaSkipped() throws SQLException {
+        when(replica1.getConnection()).thenThrow(new SQLException("down")).thenReturn(connection1);
+
+        assertSame(connection2, dataSource.getConnection());
+        assertSame(connection2, dataSource.getConnection());
+        assertEquals(1, dataSource.getHealthyReplicas());
+        assertEquals(0.0, registry.get("rewards.datasource.replica.healthy").tag("replica", "replica-1").gauge().value());
+
+        dataSource.checkHealth();
+        assertEquals(2, dataSource.getHealthyReplicas());
+        assertSame(connection1, dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Replica Routing - Primary Serves Reads When No Replica Is Healthy")
+    void testFallbackToPrimary() throws SQLException {
+        when(connection1.isValid(anyInt())).thenReturn(false);
+        when(replica2.getConnection()).thenThrow(new SQLException("down"));
+        dataSource.checkHealth();
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertEquals(0, dataSource.getHealthyReplicas());
+        assertEquals(1.0, registry.get("rewards.datasource.replica.primary").tag("reason", "no-healthy-replica").counter().count());
+    }
+
+    @Test
+    @DisplayName("Replica Routing - Primary Serves Reads Inside ReadRouting.onPrimary")
+    void testPrimaryRequired() throws SQLException {
+        Connection connection = ReadRouting.onPrimary(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertSame(primaryConnection, connection);
+        assertFalse(ReadRouting.isPrimaryRequired());
+        assertSame(connection1, dataSource.getConnection());
+        assertEquals(1.0, registry.get("rewards.datasource.replica.primary").tag("reason", "read-your-writes").counter().count());
+    }
+
+    @Test
+    @DisplayName("Replica Lag - Replica Behind max-lag Skipped Until It Catches Up")
+    void testLaggingReplicaSkipped() throws SQLException {
+        lags.put(connection1, Duration.ofSeconds(45));
+        dataSource.checkHealth();
+
+        assertEquals(1, dataSource.getHealthyReplicas());
+        assertEquals(45.0, registry.get("rewards.datasource.replica.lag").tag("replica", "replica-1").gauge().value());
+        assertSame(connection2, dataSource.getConnection());
+        assertSame(connection2, dataSource.getConnection());
+
+        lags.put(connection1, Duration.ofSeconds(2));
+        dataSource.checkHealth();
+        assertEquals(2, dataSource.getHealthyReplicas());
+    }
+
+    @Test
+    @DisplayName("Replica Lag - Unknown Lag (Replication Stopped) Counts As Down")
+    void testUnknownLag() {
+        lags.remove(connection2);
+        dataSource.checkHealth();
+
+        assertEquals(1, dataSource.getHealthyReplicas());
+        assertTrue(Double.isNaN(registry.get("rewards.datasource.replica.lag").tag("replica", "replica-2").gauge().value()));
+    }
+
+    @Test
+    @DisplayName("Replica Health - Checks Run On Their Own Thread")
+    void testHealthChecksOnOwnThread() throws Exception {
+        Map<String, DataSource> replicas = Map.of("replica-1", replica1);
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        ReplicaLag lag = (connection, timeoutSeconds) -> {
+            thread.complete(Thread.currentThread().getName());
+            return Duration.ZERO;
+        };
+        try (ReplicaRoutingDataSource checked = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(1),
+                lag, Duration.ofSeconds(10))) {
+            checked.startHealthChecks(Duration.ofMillis(10));
+            assertEquals("replica-health", thread.get(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.charter.rewards.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmountCentsConverterTest {
+
+    private final AmountCentsConverter converter = new AmountCentsConverter();
+
+    @Test
+    @DisplayName("Amount Converter - Every DECIMAL(10,2) Value Up To $100,000 Reads Back As Its Cents")
+    void testRoundTrip() {
+        for (long cents = 0; cents <= 10_000_000; cents++) {
+            // What the driver returns for the stored DECIMAL value
+            double column = new BigDecimal(BigDecimal.valueOf(cents, 2).toPlainString()).doubleValue();
+            assertEquals(cents, converter.convertToEntityAttribute(column));
+            assertEquals(cents, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(cents)));
+        }
+        assertEquals(99_999_999_99L, converter.convertToEntityAttribute(99_999_999.99));
+    }
+
+    @Test
+    @DisplayName("Amount Converter - Nulls Pass Through, Entity Keeps The Dollar View")
+    void testNullsAndDollarView() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+
+        Transaction tx = new Transaction();
+        tx.setAmount(120.35);
+        assertEquals(12_035L, tx.getAmountCents());
+        assertEquals(120.35, tx.getAmount());
+    }
+}
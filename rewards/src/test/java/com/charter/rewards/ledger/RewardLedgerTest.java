@@ -0,0 +1,138 @@
+package com.charter.rewards.ledger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RewardLedgerTest {
+
+    private final RewardLedger ledger = new RewardLedger(true);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Ledger - Load Then Record Outside A Transaction")
+    void testLoadAndRecord() {
+        ledger.load(Map.of(1L, Map.of(YearMonth.of(2025, 7), 25L)));
+        assertTrue(ledger.isReady());
+
+        ledger.record(1L, LocalDate.of(2025, 8, 10), 12000L);
+        ledger.record(1L, LocalDate.of(2025, 8, 1), 4000L);
+        ledger.record(2L, LocalDate.of(2025, 9, 1), 20000L);
+
+        assertEquals(Map.of("2025-07", 25, "2025-08", 90), ledger.monthlyRewards(1L));
+        assertEquals(Map.of("2025-09", 250), ledger.monthlyRewards(2L));
+        assertTrue(ledger.monthlyRewards(3L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Ledger - Points Applied Only After Commit")
+    void testRecordAppliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.record(1L, LocalDate.of(2025, 8, 10), 12000L);
+        ledger.record(1L, LocalDate.of(2025, 8, 11), 12000L);
+
+        assertTrue(ledger.monthlyRewards(1L).isEmpty());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(Map.of("2025-08", 180), ledger.monthlyRewards(1L));
+    }
+
+    @Test
+    @DisplayName("Ledger - Points Discarded On Rollback")
+    void testRecordDiscardedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.record(1L, LocalDate.of(2025, 8, 10), 12000L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(ledger.monthlyRewards(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Ledger - Concurrent Writers Lose No Updates")
+    void testConcurrentRecord() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ledger.record((long) (i % 10), LocalDate.of(2025, 1 + i % 12, 1), 5100L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        long total = 0;
+        for (long id = 0; id < 10; id++) {
+            total += ledger.monthlyRewards(id).values().stream().mapToInt(Integer::intValue).sum();
+        }
+        assertEquals(8 * 10_000, total);
+    }
+
+    @Test
+    @DisplayName("Ledger - Reload Holds Commits While Its Read Opens, Then Replays Them")
+    void testReloadReplaysConcurrentCommits() throws Exception {
+        ledger.load(Map.of(1L, Map.of(YearMonth.of(2025, 8), 90L)));
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            Future<?>[] commit = new Future<?>[1];
+            RewardLedger.Reload<String> reload = ledger.startReload(() -> {
+                commit[0] = writer.submit(() -> {
+                    TransactionSynchronizationManager.initSynchronization();
+                    ledger.record(1L, LocalDate.of(2025, 8, 20), 12000L);
+                    List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+                    TransactionSynchronizationManager.clearSynchronization();
+                    synchronizations.forEach(s -> s.beforeCommit(false));
+                    synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+                });
+                assertThrows(TimeoutException.class, () -> commit[0].get(200, TimeUnit.MILLISECONDS));
+                return "snapshot";
+            });
+            commit[0].get(5, TimeUnit.SECONDS);
+            assertEquals("snapshot", reload.read());
+            assertEquals(Map.of("2025-08", 180), ledger.monthlyRewards(1L));
+
+            // The read did not include the commit, so it is replayed onto the reloaded totals
+            reload.complete(Map.of(1L, Map.of(YearMonth.of(2025, 8), 90L), 2L, Map.of(YearMonth.of(2025, 9), 250L)));
+
+            assertEquals(Map.of("2025-08", 180), ledger.monthlyRewards(1L));
+            assertEquals(Map.of("2025-09", 250), ledger.monthlyRewards(2L));
+            ledger.record(1L, LocalDate.of(2025, 8, 21), 12000L);
+            assertEquals(Map.of("2025-08", 270), ledger.monthlyRewards(1L));
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Ledger - Disabled Ledger Records Nothing")
+    void testDisabled() {
+        RewardLedger disabled = new RewardLedger(false);
+        disabled.record(1L, LocalDate.of(2025, 8, 10), 12000L);
+
+        assertFalse(disabled.isReady());
+        assertTrue(disabled.monthlyRewards(1L).isEmpty());
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+}
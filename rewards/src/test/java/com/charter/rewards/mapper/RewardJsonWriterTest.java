@@ -0,0 +1,110 @@
+package com.charter.rewards.mapper;
+
+import com.charter.rewards.aggregation.RewardAggregator;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.TransactionRepository;
+import com.charter.rewards.serviceImpl.RewardServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// The application's ObjectMapper (RewardJsonWriter registered as a @JsonComponent) writing RewardRows,
+// compared byte for byte with the RewardResponseDTO built from the same rows
+@JsonTest
+class RewardJsonWriterTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+
+    private RewardServiceImpl rewardService;
+    private RewardAggregator aggregator;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer();
+        customer.setId(7L);
+        customer.setCustName("Jane \"JJ\" Doe");
+        when(customerRepository.findById(7L)).thenReturn(Optional.of(customer));
+
+        rewardService = new RewardServiceImpl();
+        // Small threshold: the DTO side of larger responses takes the fork-join path
+        aggregator = new RewardAggregator(new RewardMapper(), 2, 64, 16, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rewardService, "customerRepository", customerRepository);
+        ReflectionTestUtils.setField(rewardService, "transactionRepository", transactionRepository);
+        ReflectionTestUtils.setField(rewardService, "mapper", new RewardMapper());
+        ReflectionTestUtils.setField(rewardService, "aggregator", aggregator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregator.destroy();
+    }
+
+    @Test
+    @DisplayName("Reward JSON - Same Bytes As The DTO, Months Aggregated From The Rows")
+    void testAggregatedMonths() throws Exception {
+        when(transactionRepository.findByCustomerIdAndDateBetween(eq(7L), any(), any()))
+                .thenReturn(transactions(500, LocalDate.of(2023, 11, 2), 900));
+        LocalDate start = LocalDate.of(2023, 11, 2);
+        LocalDate end = LocalDate.of(2026, 4, 20);
+
+        String expected = objectMapper.writeValueAsString(rewardService.getRewardsForCustomer(7L, start, end));
+        String actual = objectMapper.writeValueAsString(rewardService.getRewardRowsForCustomer(7L, start, end));
+
+        assertEquals(expected, actual);
+        assertTrue(actual.contains("\"phoneNo\":null"));
+    }
+
+    @Test
+    @DisplayName("Reward JSON - Same Bytes As The DTO, Whole Months")
+    void testWholeMonths() throws Exception {
+        customer.setPhoneNo("$2a$10$hash");
+        when(transactionRepository.findByCustomerIdAndDateBetween(eq(7L), any(), any()))
+                .thenReturn(transactions(40, LocalDate.of(2025, 6, 1), 90));
+        LocalDate start = LocalDate.of(2025, 6, 1);
+        LocalDate end = LocalDate.of(2025, 8, 31);
+
+        String expected = objectMapper.writeValueAsString(rewardService.getRewardsForCustomer(7L, start, end));
+        String actual = objectMapper.writeValueAsString(rewardService.getRewardRowsForCustomer(7L, start, end));
+
+        assertEquals(expected, actual);
+        assertTrue(actual.contains("\"phoneNo\":\"$2a$10$hash\""));
+    }
+
+    // Dates in random order over the given number of days; amounts across every band, including large ones
+    private List<Transaction> transactions(int count, LocalDate from, int days) {
+        Random random = new Random(11);
+        double[] amounts = {0.01, 49.99, 50.0, 50.01, 100.0, 100.01, 120.55, 9999999.99, 0.1};
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Transaction tx = new Transaction();
+            tx.setId((long) i + 1);
+            tx.setDate(from.plusDays(random.nextInt(days)));
+            tx.setAmount(i < amounts.length ? amounts[i] : Math.round(random.nextDouble() * 30000) / 100.0);
+            tx.setProduct(i % 3 == 0 ? "Café ☕" : "Product " + i % 7);
+            tx.setCustomer(customer);
+            transactions.add(tx);
+        }
+        return transactions;
+    }
+}
@@ -0,0 +1,92 @@
+package com.charter.rewards.mapper;
+
+import com.charter.rewards.dto.*;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import java.time.LocalDate;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// The hand-written mappings must produce exactly what ModelMapper produced before
+class RewardMapperTest {
+
+    private final RewardMapper rewardMapper = new RewardMapper();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private Customer customer;
+    private CustomerDTO customerDTO;
+
+    @BeforeEach
+    void setUp() {
+        Transaction tx = new Transaction();
+        tx.setId(7L);
+        tx.setDate(LocalDate.of(2025, 8, 10));
+        tx.setAmount(120.0);
+        tx.setProduct("Laptop");
+
+        customer = new Customer();
+        customer.setId(1L);
+        customer.setCustName("John Doe");
+        customer.setPhoneNo("encoded");
+        customer.setTransactions(new ArrayList<>(List.of(tx)));
+
+        TransactionDTO txDto = new TransactionDTO();
+        txDto.setDate(LocalDate.of(2025, 8, 10));
+        txDto.setAmount(120.0);
+        txDto.setProduct("Laptop");
+
+        customerDTO = new CustomerDTO();
+        customerDTO.setCustName("John Doe");
+        customerDTO.setPhoneNo("9876543210");
+        customerDTO.setTransactions(List.of(txDto));
+    }
+
+    @Test
+    @DisplayName("CustomerDTO -> Customer matches ModelMapper")
+    void testToCustomer() {
+        assertEquals(modelMapper.map(customerDTO, Customer.class), rewardMapper.toCustomer(customerDTO));
+    }
+
+    @Test
+    @DisplayName("CustomerDTO without transactions -> Customer matches ModelMapper")
+    void testToCustomerWithoutTransactions() {
+        customerDTO.setTransactions(null);
+        assertEquals(modelMapper.map(customerDTO, Customer.class), rewardMapper.toCustomer(customerDTO));
+    }
+
+    @Test
+    @DisplayName("Customer -> CustomerResponseDTO matches ModelMapper")
+    void testToCustomerResponse() {
+        assertEquals(modelMapper.map(customer, CustomerResponseDTO.class), rewardMapper.toCustomerResponse(customer));
+    }
+
+    @Test
+    @DisplayName("Transaction -> TransactionDTO matches ModelMapper")
+    void testToTransactionDTO() {
+        Transaction tx = customer.getTransactions().get(0);
+        TransactionDTO expected = modelMapper.map(tx, TransactionDTO.class);
+        expected.setRewardPoints(90);
+        assertEquals(expected, rewardMapper.toTransactionDTO(tx, 90));
+    }
+
+    @Test
+    @DisplayName("Common reward fields are filled the same way for both response types")
+    void testFillRewardResponse() {
+        List<TransactionDTO> transactions = List.of(rewardMapper.toTransactionDTO(customer.getTransactions().get(0), 90));
+        Map<String, Integer> monthly = Map.of("2025-08", 90);
+
+        SummaryResponseDTO summary = rewardMapper.fillRewardResponse(new SummaryResponseDTO(), customer, transactions, monthly, 90);
+        RewardResponseDTO reward = rewardMapper.fillRewardResponse(new RewardResponseDTO(), customer, transactions, monthly, 90);
+
+        assertEquals(1L, summary.getCustomerId());
+        assertEquals("encoded", summary.getPhoneNo());
+        assertEquals(90, summary.getTotalRewards());
+        assertEquals(summary.getTransactions(), reward.getTransactions());
+        assertEquals(summary.getMonthlyRewards(), reward.getMonthlyRewards());
+        assertEquals("John Doe", reward.getCustName());
+    }
+}
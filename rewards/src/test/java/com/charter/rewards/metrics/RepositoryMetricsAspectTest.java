@@ -0,0 +1,96 @@
+package com.charter.rewards.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryMetricsAspectTest {
+
+    interface NameRepository extends Repository<String, Long> {
+        List<String> findAll();
+
+        Optional<String> findById(Long id);
+
+        Stream<String> streamAll();
+
+        long count();
+
+        void touch(Long id);
+    }
+
+    private SimpleMeterRegistry registry;
+    private NameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new NameRepository() {
+            @Override
+            public List<String> findAll() {
+                return List.of("Jack", "Jill", "Bob");
+            }
+
+            @Override
+            public Optional<String> findById(Long id) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Stream<String> streamAll() {
+                return Stream.of("Jack", "Jill");
+            }
+
+            @Override
+            public long count() {
+                return 3;
+            }
+
+            @Override
+            public void touch(Long id) {
+            }
+        });
+        factory.addAspect(new RepositoryMetricsAspect(registry));
+        repository = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Repository Rows - Recorded Per Repository And Method")
+    void testRowsRecorded() {
+        repository.findAll();
+        repository.findById(1L);
+        repository.count();
+        repository.touch(1L);
+
+        DistributionSummary findAll = rows("findAll");
+        assertEquals(1, findAll.count());
+        assertEquals(3.0, findAll.totalAmount());
+        assertEquals(0.0, rows("findById").totalAmount());
+        assertNull(registry.find("rewards.repository.rows").tag("method", "count").summary());
+        assertNull(registry.find("rewards.repository.rows").tag("method", "touch").summary());
+    }
+
+    @Test
+    @DisplayName("Repository Rows - Stream Recorded When Closed")
+    void testStreamRecordedOnClose() {
+        try (Stream<String> names = repository.streamAll()) {
+            assertEquals(List.of("Jack", "Jill"), names.toList());
+            assertEquals(0, rows("streamAll").count());
+        }
+        assertEquals(2.0, rows("streamAll").totalAmount());
+    }
+
+    private DistributionSummary rows(String method) {
+        return registry.get("rewards.repository.rows")
+                .tag("repository", "NameRepository")
+                .tag("method", method)
+                .summary();
+    }
+}
@@ -0,0 +1,73 @@
+package com.charter.rewards.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletResponse;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseSizeFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private ResponseSizeFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new ResponseSizeFilter(registry);
+        request = new MockHttpServletRequest("GET", "/api/rewards/customers/1/transactions");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Response Size - Recorded Per Endpoint Pattern")
+    void testSizeRecorded() throws Exception {
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/rewards/customers/{customerId}/transactions");
+            res.getOutputStream().write("[{\"amount\":120.0}]".getBytes(StandardCharsets.UTF_8));
+        });
+
+        DistributionSummary size = registry.get("rewards.http.response.size")
+                .tag("uri", "/api/rewards/customers/{customerId}/transactions")
+                .tag("method", "GET")
+                .tag("status", "200")
+                .summary();
+        assertEquals(1, size.count());
+        assertEquals(18.0, size.totalAmount());
+        assertEquals("[{\"amount\":120.0}]", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Response Size - Async Response Recorded On Completion")
+    void testAsyncRecordedOnCompletion() throws Exception {
+        request.setAsyncSupported(true);
+        ServletResponse[] wrapped = new ServletResponse[1];
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync();
+            wrapped[0] = res;
+        });
+        // Written by the async task after the filter has returned
+        wrapped[0].getOutputStream().write(new byte[64]);
+        assertNull(registry.find("rewards.http.response.size").summary());
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(new AsyncEvent(asyncContext));
+        }
+
+        DistributionSummary size = registry.get("rewards.http.response.size").tag("uri", "UNKNOWN").summary();
+        assertEquals(1, size.count());
+        assertEquals(64.0, size.totalAmount());
+    }
+}
@@ -0,0 +1,21 @@
+package com.charter.rewards.querybudget;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Upper bounds for the SQL run by one test method body (setup in @BeforeEach is not counted).
+// Needs the QueryBudgetConfig DataSource wrapper in the test's application context.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    // Executed statements
+    long statements() default Long.MAX_VALUE;
+
+    // Rows read from result sets
+    long rows() default Long.MAX_VALUE;
+}
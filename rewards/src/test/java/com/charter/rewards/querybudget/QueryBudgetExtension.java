@@ -0,0 +1,40 @@
+package com.charter.rewards.querybudget;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+// Resets the counters right before the test body and checks its @QueryBudget right after
+class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        dataSource(context).reset();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        QueryCountingDataSource dataSource = dataSource(context);
+        if (dataSource.getStatements() > budget.statements() || dataSource.getRows() > budget.rows()) {
+            throw new AssertionFailedError(String.format(
+                    "Query budget exceeded: %d statements (budget %s), %d rows (budget %s)%n  %s",
+                    dataSource.getStatements(), limit(budget.statements()),
+                    dataSource.getRows(), limit(budget.rows()),
+                    String.join(System.lineSeparator() + "  ", dataSource.getSql())));
+        }
+    }
+
+    private static QueryCountingDataSource dataSource(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(QueryCountingDataSource.class);
+    }
+
+    private static String limit(long value) {
+        return value == Long.MAX_VALUE ? "none" : Long.toString(value);
+    }
+}
@@ -0,0 +1,96 @@
+package com.charter.rewards.querybudget;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Counts the statements executed and the rows read through this DataSource, across all threads, since the
+// last reset(). A statement is one execute*/executeBatch call; a row is one ResultSet.next() that returned true.
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final ConcurrentLinkedQueue<String> sql = new ConcurrentLinkedQueue<>();
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection(), null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password), null);
+    }
+
+    public void reset() {
+        statements.set(0);
+        rows.set(0);
+        sql.clear();
+    }
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    // Executed statements in order, for failure messages
+    public List<String> getSql() {
+        return new ArrayList<>(sql);
+    }
+
+    // Statements from the connection and result sets from the statements are wrapped too, as the most specific
+    // JDBC interface they implement, so a PreparedStatement stays a PreparedStatement
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target, String preparedSql) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                statements.incrementAndGet();
+                sql.add(args != null && args.length > 0 && args[0] instanceof String query ? query : String.valueOf(preparedSql));
+            }
+            if (target instanceof ResultSet && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                rows.incrementAndGet();
+            }
+            if (target instanceof Connection && result instanceof Statement statement) {
+                return wrap(statement, args != null && args.length > 0 && args[0] instanceof String query ? query : null);
+            }
+            if (target instanceof Statement && method.getReturnType() == ResultSet.class && result != null) {
+                return proxy(ResultSet.class, (ResultSet) result, null);
+            }
+            return result;
+        });
+    }
+
+    private Statement wrap(Statement statement, String preparedSql) {
+        if (statement instanceof CallableStatement callable) {
+            return proxy(CallableStatement.class, callable, preparedSql);
+        }
+        if (statement instanceof PreparedStatement prepared) {
+            return proxy(PreparedStatement.class, prepared, preparedSql);
+        }
+        return proxy(Statement.class, statement, null);
+    }
+}
@@ -0,0 +1,147 @@
+package com.charter.rewards.querybudget;
+
+import com.charter.rewards.dto.CustomerDTO;
+import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.service.RewardService;
+import com.charter.rewards.serviceImpl.RewardServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// SQL statements and rows per request against H2 (MySQL mode), with every cache in front of the database switched
+// off. CUSTOMERS customers are loaded, so a per-customer query loop shows up as CUSTOMERS extra statements.
+@SpringBootTest(properties = {
+        "rewards.cache.rewards.enabled=false",
+        "rewards.cache.transactions.enabled=false",
+        "rewards.security.user-cache.max-size=0",
+        "rewards.security.bcrypt.strength=4"
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(QueryBudgetConfig.class)
+class RewardQueryBudgetTest {
+
+    private static final int CUSTOMERS = 20;
+    private static final int TRANSACTIONS_PER_CUSTOMER = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private RewardServiceImpl rewardServiceImpl;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        if (customerRepository.count() == 0) {
+            for (int c = 1; c <= CUSTOMERS; c++) {
+                List<TransactionDTO> transactions = new ArrayList<>();
+                for (int t = 0; t < TRANSACTIONS_PER_CUSTOMER; t++) {
+                    TransactionDTO tx = new TransactionDTO();
+                    tx.setDate(LocalDate.of(2025, 1 + t, 10));
+                    tx.setAmount(40.0 + 20 * t);
+                    tx.setProduct("Product " + t);
+                    transactions.add(tx);
+                }
+                CustomerDTO customer = new CustomerDTO();
+                customer.setCustName("Customer " + c);
+                customer.setPhoneNo("99000000" + String.format("%02d", c));
+                customer.setTransactions(transactions);
+                rewardService.createCustomer(customer);
+            }
+        }
+        customerId = customerRepository.findByCustName("Customer 1").orElseThrow().getId();
+    }
+
+    @Test
+    // A page of up to 500 customers and one transaction query for the page; a per-customer loop would add 20
+    @QueryBudget(statements = 2, rows = CUSTOMERS * (1 + TRANSACTIONS_PER_CUSTOMER))
+    @DisplayName("Query Budget - Summary Is Independent Of Customer Count")
+    void testSummary() throws Exception {
+        mockMvc.perform(get("/api/rewards/summary")).andExpect(status().isOk());
+    }
+
+    @Test
+    // 20 customers in pages of 8: three pages of one customer and one transaction query each, the short last
+    // page ends the scan
+    @QueryBudget(statements = 6, rows = CUSTOMERS * (1 + TRANSACTIONS_PER_CUSTOMER))
+    @DisplayName("Query Budget - Summary Statements Grow With Pages, Not Customers")
+    void testSummaryPages() throws Exception {
+        RewardServiceImpl target = AopTestUtils.getUltimateTargetObject(rewardServiceImpl);
+        ReflectionTestUtils.setField(target, "summaryBatchSize", 8);
+        try {
+            mockMvc.perform(get("/api/rewards/summary")).andExpect(status().isOk());
+        } finally {
+            ReflectionTestUtils.setField(target, "summaryBatchSize", 500);
+        }
+    }
+
+    @Test
+    @QueryBudget(statements = 1, rows = CUSTOMERS * TRANSACTIONS_PER_CUSTOMER)
+    @DisplayName("Query Budget - Streamed Summary Reads Every Row Once")
+    void testSummaryStream() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/rewards/summary/stream")).andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    @Test
+    // Ledger version (ETag), customer, and the three transactions of March to May
+    @QueryBudget(statements = 3, rows = 5)
+    @DisplayName("Query Budget - Customer Rewards For A Date Range")
+    void testCustomerRewards() throws Exception {
+        mockMvc.perform(get("/api/rewards/customers/{id}/rewards", customerId)
+                        .param("startDate", "2025-02-15")
+                        .param("endDate", "2025-05-20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 2, rows = 1 + TRANSACTIONS_PER_CUSTOMER)
+    @DisplayName("Query Budget - Customer Transactions")
+    void testCustomerTransactions() throws Exception {
+        mockMvc.perform(get("/api/rewards/customers/{id}/transactions", customerId)).andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 2, rows = 1 + 3)
+    @DisplayName("Query Budget - Transaction Page Reads At Most Limit Plus One Rows")
+    void testTransactionPage() throws Exception {
+        mockMvc.perform(get("/api/rewards/customers/{id}/transactions", customerId).param("limit", "2"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 1, rows = 1)
+    @DisplayName("Query Budget - Login Looks Up One Customer")
+    void testAuthenticate() throws Exception {
+        mockMvc.perform(post("/customer/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"custName\":\"Customer 1\",\"phoneNo\":\"9900000001\"}"))
+                .andExpect(status().isOk());
+    }
+}
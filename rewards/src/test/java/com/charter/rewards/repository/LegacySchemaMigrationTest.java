@@ -0,0 +1,103 @@
+package com.charter.rewards.repository;
+
+import com.charter.rewards.dto.CustomerDTO;
+import com.charter.rewards.dto.CustomerResponseDTO;
+import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.service.RewardService;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+// A database as the application used to leave it: the Table.sql schema (V1) plus the cust_name/phone_no columns
+// ddl-auto=update added, holding data but no Flyway history. Startup baselines it at 1 and applies V2 onwards,
+// then Hibernate validates the mapping against the result.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + LegacySchemaMigrationTest.URL,
+        "rewards.security.bcrypt.strength=4"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class LegacySchemaMigrationTest {
+
+    static final String URL = "jdbc:h2:mem:legacy-schema;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final JdbcTemplate legacy = legacy();
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private RewardService rewardService;
+
+    // Created before the context, so Flyway finds a non-empty schema without history
+    private static JdbcTemplate legacy() {
+        DataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/h2/V1__baseline.sql"));
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("ALTER TABLE customers ADD COLUMN cust_name VARCHAR(255)");
+        jdbc.execute("ALTER TABLE customers ADD COLUMN phone_no VARCHAR(255)");
+        jdbc.update("INSERT INTO customers (id, name, cust_name, phone_no) VALUES (1, 'Alice', 'Alice', '1234567890')");
+        jdbc.update("INSERT INTO customers (id, name) VALUES (2, 'Bob')");
+        for (long id = 1; id <= 3; id++) {
+            jdbc.update("INSERT INTO transactions (id, customer_id, date, product, amount) VALUES (?, 1, DATE '2025-03-10', 'Laptop', 120.00)", id);
+        }
+        return jdbc;
+    }
+
+    @Test
+    @DisplayName("Legacy Schema - Baselined At 1, Every Later Version Applied")
+    void testBaselinedAndMigrated() {
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7", "8"), applied);
+        assertTrue(flyway.info().applied()[0].getType().isBaseline());
+        assertEquals("Bob", legacy.queryForObject("SELECT cust_name FROM customers WHERE id = 2", String.class));
+        // Built from the existing rows at startup (rewards.rollup.rebuild-on-empty)
+        assertEquals(270, legacy.queryForObject(
+                "SELECT points FROM customer_monthly_rewards WHERE customer_id = 1 AND reward_month = '2025-03'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Legacy Schema - New Transactions Get Ids Above The Existing Ones")
+    void testSequenceSeededAboveExistingIds() {
+        CustomerDTO customer = new CustomerDTO();
+        customer.setCustName("Carol");
+        customer.setPhoneNo("9000000001");
+        customer.setTransactions(List.of(transaction(75.0), transaction(120.0)));
+        CustomerResponseDTO created = rewardService.createCustomer(customer);
+
+        assertEquals(2, legacy.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE customer_id = ? AND id > 3", Integer.class, created.getId()));
+        assertEquals(2, rewardService.getCustomerTransactions(created.getId()).size());
+    }
+
+    private static TransactionDTO transaction(double amount) {
+        TransactionDTO tx = new TransactionDTO();
+        tx.setDate(LocalDate.of(2025, 4, 2));
+        tx.setAmount(amount);
+        tx.setProduct("Phone");
+        return tx;
+    }
+}
@@ -0,0 +1,89 @@
+package com.charter.rewards.repository;
+
+import com.charter.rewards.serviceImpl.TransactionPartitionServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Partition pruning needs a real MySQL; runs only when one is given, e.g.
+// mvn test -Dtest=TransactionPartitionPruningTest -Drewards.test.mysql-url=jdbc:mysql://localhost:3306/rewards_test
+//     -Drewards.test.mysql-user=root -Drewards.test.mysql-password=root
+// The schema is migrated with db/migration/mysql; use a scratch database.
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "rewards.test.mysql-url", matches = ".+")
+class TransactionPartitionPruningTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("rewards.test.mysql-url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("rewards.test.mysql-user", "root"));
+        registry.add("spring.datasource.password", () -> System.getProperty("rewards.test.mysql-password", ""));
+    }
+
+    @Test
+    @DisplayName("Partition Pruning - One Month Reads One Partition")
+    void testOneMonth() {
+        assertEquals("p2025_08", partitions("'2025-08-01'", "'2025-08-31'"));
+    }
+
+    @Test
+    @DisplayName("Partition Pruning - Range Across A Month Boundary Reads Both Months")
+    void testTwoMonths() {
+        assertEquals("p2025_08,p2025_09", partitions("'2025-08-20'", "'2025-09-10'"));
+    }
+
+    @Test
+    @DisplayName("Partition Pruning - Months After V5 Split Off p_future Get Their Own Partition")
+    void testMonthsAhead() {
+        // Three months ahead of March 2027: p2027_01 to p2027_06 are split off p_future (unless an earlier run did)
+        TransactionPartitionServiceImpl partitionService = new TransactionPartitionServiceImpl();
+        ReflectionTestUtils.setField(partitionService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(partitionService, "clock", Clock.fixed(Instant.parse("2027-03-15T00:00:00Z"), ZoneOffset.UTC));
+
+        partitionService.createPartitionsAhead();
+
+        assertEquals(0, partitionService.createPartitionsAhead());
+        assertEquals("p2027_06", partitions("'2027-06-01'", "'2027-06-30'"));
+        assertEquals("p2026_12,p2027_01", partitions("'2026-12-20'", "'2027-01-10'"));
+    }
+
+    @Test
+    @DisplayName("Partition Pruning - Customer Range Read Uses The Covering Index")
+    void testCoveringIndex() {
+        Map<String, Object> plan = explain("'2025-08-01'", "'2025-08-31'");
+        assertEquals("idx_transactions_customer_date_id", plan.get("key"));
+        assertTrue(String.valueOf(plan.get("Extra")).contains("Using index"), String.valueOf(plan));
+    }
+
+    private String partitions(String from, String to) {
+        return (String) explain(from, to).get("partitions");
+    }
+
+    // Same shape as findByCustomerIdAndDateBetween
+    private Map<String, Object> explain(String from, String to) {
+        String query = "SELECT id, customer_id, date, product, amount FROM transactions "
+                + "WHERE customer_id = 1 AND date BETWEEN " + from + " AND " + to;
+        Map<String, Object> plan = jdbcTemplate.queryForMap("EXPLAIN " + query);
+        // MariaDB lists partitions only for EXPLAIN PARTITIONS, which MySQL 8 no longer accepts
+        if (plan.get("partitions") == null) {
+            plan = jdbcTemplate.queryForMap("EXPLAIN PARTITIONS " + query);
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,172 @@
+package com.charter.rewards.repository;
+
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.CustomerMonthlyReward;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.ledger.RewardLedger;
+import com.charter.rewards.ledger.TransactionLedgerListener;
+import com.charter.rewards.util.MonthlyRewardTotals;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the H2 migrations and the JPA mapping (ddl-auto=validate) against an in-memory database
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RewardLedger.class, TransactionLedgerListener.class})
+class TransactionRepositoryTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerMonthlyRewardRepository rollupRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    private Customer customer;
+    private Customer other;
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer();
+        customer.setCustName("Alice");
+        customer.setPhoneNo("1234567890");
+        entityManager.persist(customer);
+
+        other = new Customer();
+        other.setCustName("Bob");
+        entityManager.persist(other);
+
+        save(customer, "2025-07-31", 120.0);
+        save(customer, "2025-08-01", 75.0);
+        save(customer, "2025-08-01", 40.55);
+        save(customer, "2025-08-31", 200.0);
+        save(customer, "2025-09-01", 60.0);
+        save(other, "2025-08-15", 99.99);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Migrations - All Versions Applied In Order")
+    void testMigrationsApplied() {
+        List<String> versions = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7", "8"), versions);
+    }
+
+    @Test
+    @DisplayName("Date Range - Only The Customer's Rows In Range, Read Off The Covering Index")
+    void testDateRange() {
+        List<Transaction> rows = transactionRepository.findByCustomerIdAndDateBetween(customer.getId(),
+                LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31));
+
+        assertEquals(3, rows.size());
+        assertTrue(rows.stream().allMatch(tx -> tx.getDate().getMonthValue() == 8));
+        assertTrue(rows.stream().anyMatch(tx -> tx.getAmountCents() == 4055));
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT id, date, amount, product FROM transactions "
+                + "WHERE customer_id = 1 AND date BETWEEN DATE '2025-08-01' AND DATE '2025-08-31'", String.class);
+        assertTrue(plan.toLowerCase().contains("idx_transactions_customer_date_id"), plan);
+    }
+
+    @Test
+    @DisplayName("Keyset Page - Seeks Past (date, id) In Order")
+    void testKeysetPage() {
+        List<Transaction> first = transactionRepository.findByCustomerIdOrderByDateAscIdAsc(customer.getId(), Limit.of(2));
+        Transaction last = first.get(1);
+        List<Transaction> next = transactionRepository.findPageAfter(customer.getId(), last.getDate(), last.getId(), Limit.of(10));
+
+        assertEquals(LocalDate.of(2025, 8, 1), last.getDate());
+        assertEquals(3, next.size());
+        assertEquals(LocalDate.of(2025, 8, 1), next.get(0).getDate());
+        assertTrue(next.get(0).getId() > last.getId());
+        assertEquals(LocalDate.of(2025, 9, 1), next.get(2).getDate());
+    }
+
+    @Test
+    @DisplayName("Ledger Version - Starts At 0, Incremented Only For The Given Customers")
+    void testLedgerVersion() {
+        assertEquals(0L, customerRepository.findLedgerVersion(customer.getId()).orElseThrow());
+
+        assertEquals(1, customerRepository.incrementLedgerVersions(List.of(customer.getId())));
+        customerRepository.incrementLedgerVersions(List.of(customer.getId()));
+
+        assertEquals(2L, customerRepository.findLedgerVersion(customer.getId()).orElseThrow());
+        assertEquals(0L, customerRepository.findLedgerVersion(other.getId()).orElseThrow());
+        assertTrue(customerRepository.findLedgerVersion(-1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Rollup - Batched Upserts Add To Existing Months, Rebuild Replaces Locked Customers' Rows")
+    void testRollupUpsertAndRebuildRows() {
+        MonthlyRewardTotals first = new MonthlyRewardTotals();
+        first.add(LocalDate.of(2025, 8, 1), 12000);
+        MonthlyRewardTotals second = new MonthlyRewardTotals();
+        second.add(LocalDate.of(2025, 8, 20), 7500);
+        second.add(LocalDate.of(2025, 9, 1), 4000);
+        MonthlyRewardTotals others = new MonthlyRewardTotals();
+        others.add(LocalDate.of(2025, 8, 15), 9999);
+
+        assertEquals(2, rollupRepository.addToMonths(Map.of(customer.getId(), first, other.getId(), others)));
+        assertEquals(2, rollupRepository.addToMonths(Map.of(customer.getId(), second)));
+
+        assertEquals(Map.of("2025-08", 90 + 25, "2025-09", 0), points(customer));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT tx_count FROM customer_monthly_rewards "
+                + "WHERE customer_id = ? AND reward_month = '2025-08'", Integer.class, customer.getId()));
+        // Exact cents, added in the upsert
+        assertEquals(19500L, jdbcTemplate.queryForObject("SELECT amount_sum_cents FROM customer_monthly_rewards "
+                + "WHERE customer_id = ? AND reward_month = '2025-08'", Long.class, customer.getId()));
+
+        List<Long> ids = List.of(customer.getId());
+        assertEquals(ids, customerRepository.lockForUpdate(ids));
+        assertEquals(5, transactionRepository.findColumnsByCustomerIdIn(ids).size());
+        assertEquals(2, rollupRepository.deleteByCustomerIds(ids));
+        assertTrue(points(customer).isEmpty());
+        assertEquals(Map.of("2025-08", 49), points(other));
+    }
+
+    private Map<String, Integer> points(Customer owner) {
+        return rollupRepository.findByCustomerIdIn(List.of(owner.getId())).stream()
+                .collect(Collectors.toMap(CustomerMonthlyReward::getRewardMonth, CustomerMonthlyReward::getPoints));
+    }
+
+    private void save(Customer owner, String date, double amount) {
+        Transaction tx = new Transaction();
+        tx.setCustomer(owner);
+        tx.setDate(LocalDate.parse(date));
+        tx.setProduct("Product");
+        tx.setAmount(amount);
+        entityManager.persist(tx);
+    }
+}
@@ -0,0 +1,101 @@
+package com.charter.rewards.security;
+
+import com.charter.rewards.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Should encode and match through the worker pool")
+    void testEncodeAndMatch() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 10,
+                Duration.ofSeconds(5), 1, meterRegistry);
+
+        String hash = encoder.encode("9978543210");
+
+        assertTrue(encoder.matches("9978543210", hash));
+        assertFalse(encoder.matches("wrong_password", hash));
+        assertEquals(1, meterRegistry.get("rewards.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("rewards.password.hash").tag("operation", "matches").timer().count());
+        assertEquals(3, meterRegistry.get("rewards.password.wait").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when the worker and queue are full")
+    void testRejectsWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.matches(any(), any())).thenAnswer(i -> {
+            release.await();
+            return true;
+        });
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, Duration.ofSeconds(5), 3, meterRegistry);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "hash"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "hash"));
+        while (meterRegistry.get("rewards.password.queue.depth").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        ServiceBusyException ex = assertThrows(ServiceBusyException.class, () -> encoder.matches("c", "hash"));
+        assertEquals(3, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("rewards.password.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get());
+        assertTrue(queued.get());
+    }
+
+    @Test
+    @DisplayName("Should keep a timed-out hash's slot until it finishes and skip queued ones nobody waits for")
+    void testTimedOutWorkHoldsItsSlot() throws Exception {
+        AtomicBoolean release = new AtomicBoolean();
+        AtomicInteger hashed = new AtomicInteger();
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        // Like BCrypt: ignores interrupts and runs to completion
+        when(slow.matches(any(), any())).thenAnswer(i -> {
+            hashed.incrementAndGet();
+            while (!release.get()) {
+                Thread.onSpinWait();
+            }
+            return true;
+        });
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, Duration.ofMillis(100), 1, meterRegistry);
+
+        assertThrows(ServiceBusyException.class, () -> encoder.matches("running", "hash"));
+        assertThrows(ServiceBusyException.class, () -> encoder.matches("queued", "hash"));
+        assertEquals(2.0, meterRegistry.get("rewards.password.in-flight").gauge().value());
+        // Both slots are still taken, so this is refused without being queued
+        assertThrows(ServiceBusyException.class, () -> encoder.matches("refused", "hash"));
+        assertEquals(3.0, meterRegistry.get("rewards.password.rejected").counter().count());
+
+        release.set(true);
+        while (meterRegistry.get("rewards.password.in-flight").gauge().value() > 0) {
+            Thread.sleep(5);
+        }
+        assertTrue(encoder.matches("next", "hash"));
+        // The queued hash was skipped once its caller had gone
+        assertEquals(2, hashed.get());
+    }
+}
@@ -0,0 +1,107 @@
+package com.charter.rewards.security;
+
+import com.charter.rewards.datasource.ReadYourWrites;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.event.CustomerChangedEvent;
+import com.charter.rewards.repository.CustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private UserDetailsCache userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(10), meterRegistry);
+
+    @Spy
+    private ReadYourWrites readYourWrites = new ReadYourWrites(false, Duration.ZERO);
+
+    @InjectMocks
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Customer customer = new Customer();
+        customer.setId(2L);
+        customer.setCustName("Jack");
+        customer.setPhoneNo("$2a$10$encoded");
+        when(customerRepository.findByCustName("Jack")).thenReturn(Optional.of(customer));
+    }
+
+    @Test
+    @DisplayName("Should look up the customer by name once and serve repeats from the cache")
+    void testLoadUserIsCached() {
+        UserDetails first = userDetailsService.loadUserByUsername("Jack");
+        UserDetails second = userDetailsService.loadUserByUsername("Jack");
+
+        assertEquals("Jack", second.getUsername());
+        assertEquals("$2a$10$encoded", second.getPassword());
+        assertNotSame(first, second);
+        verify(customerRepository, times(1)).findByCustName("Jack");
+        verify(customerRepository, never()).findAll();
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep the cached password when the caller erases credentials")
+    void testErasedCredentialsDoNotLeakIntoCache() {
+        UserDetails first = userDetailsService.loadUserByUsername("Jack");
+        ((CredentialsContainer) first).eraseCredentials();
+
+        assertEquals("$2a$10$encoded", userDetailsService.loadUserByUsername("Jack").getPassword());
+    }
+
+    @Test
+    @DisplayName("Should reload the customer after a change event")
+    void testCustomerChangedInvalidates() {
+        userDetailsService.loadUserByUsername("Jack");
+        userDetailsCache.onCustomerChanged(new CustomerChangedEvent(2L, "Jack"));
+        userDetailsService.loadUserByUsername("Jack");
+
+        verify(customerRepository, times(2)).findByCustName("Jack");
+    }
+
+    @Test
+    @DisplayName("Should grant ROLE_ADMIN only to the configured admin customers")
+    void testAdminAuthority() {
+        assertTrue(userDetailsService.loadUserByUsername("Jack").getAuthorities().isEmpty());
+
+        ReflectionTestUtils.setField(userDetailsService, "admins", Set.of("Jack"));
+        userDetailsCache.onCustomerChanged(new CustomerChangedEvent(2L, "Jack"));
+        assertEquals(Set.of("ROLE_ADMIN"), userDetailsService.loadUserByUsername("Jack").getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).collect(Collectors.toSet()));
+    }
+
+    @Test
+    @DisplayName("Should throw and not cache when the customer does not exist")
+    void testUnknownCustomer() {
+        when(customerRepository.findByCustName("Nobody")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("Nobody"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("Nobody"));
+        verify(customerRepository, times(2)).findByCustName("Nobody");
+    }
+}
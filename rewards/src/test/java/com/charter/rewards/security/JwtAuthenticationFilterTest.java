@@ -0,0 +1,82 @@
+package com.charter.rewards.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.time.Instant;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private CustomUserDetailsService customerDetailsService;
+
+    @InjectMocks
+    private JwtAuthenticationFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("JWT Filter - Valid Token Authenticates Its Customer")
+    void testValidToken() throws Exception {
+        when(verifiedTokenCache.verify("token")).thenReturn(new VerifiedToken("Alice", Instant.now().plusSeconds(60)));
+        when(customerDetailsService.loadUserByUsername("Alice")).thenReturn(new User("Alice", "hash", List.of()));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(bearer("token"), new MockHttpServletResponse(), chain);
+
+        assertEquals("Alice", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("JWT Filter - Valid Token For An Unknown Customer Stays Anonymous")
+    void testUnknownCustomer() throws Exception {
+        when(verifiedTokenCache.verify("token")).thenReturn(new VerifiedToken("Gone", Instant.now().plusSeconds(60)));
+        when(customerDetailsService.loadUserByUsername("Gone")).thenThrow(new UsernameNotFoundException("Customer not found: Gone"));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(bearer("token"), new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("JWT Filter - Invalid Token Stays Anonymous")
+    void testInvalidToken() throws Exception {
+        when(verifiedTokenCache.verify("bad")).thenThrow(new IllegalArgumentException("malformed"));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(bearer("bad"), new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(customerDetailsService);
+        assertNotNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/rewards/summary");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
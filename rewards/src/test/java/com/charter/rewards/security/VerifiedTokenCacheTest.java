@@ -0,0 +1,75 @@
+package com.charter.rewards.security;
+
+import com.charter.rewards.util.JwtUtil;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.Date;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache tokenCache;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil());
+        registry = new SimpleMeterRegistry();
+        tokenCache = new VerifiedTokenCache(jwtUtil, 100, registry);
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeats from the cache")
+    void testVerifyIsCached() {
+        String token = jwtUtil.generateToken("Jack");
+
+        VerifiedToken first = tokenCache.verify(token);
+        VerifiedToken second = tokenCache.verify(token);
+
+        assertEquals("Jack", first.username());
+        assertSame(first, second);
+        verify(jwtUtil, times(1)).parseClaims(token);
+        assertEquals(1, registry.get("rewards.jwt.verify").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a tampered signature")
+    void testTamperedToken() {
+        String token = jwtUtil.generateToken("Jack");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> tokenCache.verify(tampered));
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void testExpiredToken() {
+        String expired = Jwts.builder()
+                .setSubject("Jack")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor("mysecretkeymysecretkeymysecretkey123!".getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThrows(ExpiredJwtException.class, () -> tokenCache.verify(expired));
+    }
+
+    @Test
+    @DisplayName("Validation parses the token only once")
+    void testValidateTokenSingleParse() {
+        String token = jwtUtil.generateToken("Jack");
+        clearInvocations(jwtUtil);
+
+        assertTrue(jwtUtil.validateToken(token, "Jack"));
+        assertFalse(jwtUtil.validateToken(token, "Joy"));
+        verify(jwtUtil, times(2)).parseClaims(token);
+    }
+}
@@ -0,0 +1,67 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.dto.ColumnarStatsDTO;
+import com.charter.rewards.dto.RewardTotalsDTO;
+import com.charter.rewards.exception.CustomException;
+import com.charter.rewards.repository.TransactionColumnsRow;
+import com.charter.rewards.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class AnalyticsServiceImplTest {
+
+    @InjectMocks
+    private AnalyticsServiceImpl analyticsService;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("Columnar Reload - Stats And Range Totals")
+    void testReloadAndQuery() {
+        List<TransactionColumnsRow> rows = List.of(
+                row(1L, "2025-08-01", 40.0, "Product A"),
+                row(1L, "2025-08-10", 120.0, "Product B"),
+                row(2L, "2025-07-05", 75.0, "Product A"));
+        when(transactionRepository.count()).thenReturn(3L);
+        when(transactionRepository.streamTransactionColumns()).thenAnswer(i -> rows.stream());
+
+        ColumnarStatsDTO stats = analyticsService.reload();
+
+        assertEquals(3, stats.getRows());
+        assertEquals(2, stats.getCustomers());
+        assertEquals(2, stats.getProducts());
+        assertEquals(72, stats.getColumnBytes());
+        assertTrue(stats.getBytesPerMillionRows() > 0);
+
+        RewardTotalsDTO totals = analyticsService.getRewardTotals(1L, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31));
+        assertEquals(90, totals.getTotalRewards());
+        assertEquals(Map.of("2025-08", 90), totals.getMonthlyRewards());
+        assertEquals(2, analyticsService.getRewardTotalsSummary().size());
+    }
+
+    @Test
+    @DisplayName("Columnar Query - Before First Load")
+    void testNotLoaded() {
+        assertThrows(CustomException.class, () -> analyticsService.getRewardTotalsSummary());
+    }
+
+    private static TransactionColumnsRow row(Long customerId, String date, Double amount, String product) {
+        TransactionColumnsRow row = mock(TransactionColumnsRow.class);
+        when(row.getCustomerId()).thenReturn(customerId);
+        when(row.getDate()).thenReturn(LocalDate.parse(date));
+        when(row.getAmountCents()).thenReturn(amount == null ? null : Math.round(amount * 100));
+        when(row.getProduct()).thenReturn(product);
+        return row;
+    }
+}
@@ -0,0 +1,168 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.datasource.ReadYourWrites;
+import com.charter.rewards.dto.RewardRows;
+import com.charter.rewards.dto.TransactionDTO;
+import com.charter.rewards.event.CustomerChangedEvent;
+import com.charter.rewards.service.CustomerVersionService;
+import com.charter.rewards.service.RewardService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class CachingRewardServiceTest {
+
+    private static final LocalDate JULY = LocalDate.of(2025, 7, 1);
+    private static final LocalDate AUGUST = LocalDate.of(2025, 8, 31);
+
+    @Mock
+    private RewardService delegate;
+
+    @Mock
+    private CustomerVersionService versionService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingRewardService cachingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingService = new CachingRewardService(delegate, true, true, 100, Duration.ofMinutes(5),
+                new ReadYourWrites(false, Duration.ZERO), versionService, meterRegistry);
+        when(versionService.getVersion(anyLong())).thenReturn(1L);
+        when(delegate.getRewardRowsForCustomer(anyLong(), any(), any())).thenAnswer(inv -> rows());
+        when(delegate.getCustomerTransactions(anyLong())).thenAnswer(inv -> List.of(new TransactionDTO()));
+    }
+
+    @Test
+    @DisplayName("Cache - Repeated Range Served From Cache, Hit Ratio Published")
+    void testReadThrough() {
+        RewardRows first = cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        RewardRows second = cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        cachingService.getRewardRowsForCustomer(1L, JULY, JULY);
+
+        assertSame(first, second);
+        verify(delegate, times(1)).getRewardRowsForCustomer(1L, JULY, AUGUST);
+        verify(delegate, times(1)).getRewardRowsForCustomer(1L, JULY, JULY);
+        assertEquals(1.0 / 3, meterRegistry.get("rewards.cache.hit.ratio").tag("cache", "rewardResponses").gauge().value(), 1e-9);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "rewardResponses").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Cache - Customer Change Drops Only That Customer's Entries")
+    void testInvalidation() {
+        cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        cachingService.getRewardRowsForCustomer(1L, JULY, JULY);
+        cachingService.getRewardRowsForCustomer(2L, JULY, AUGUST);
+        cachingService.getCustomerTransactions(1L);
+        cachingService.getCustomerTransactions(2L);
+
+        cachingService.onCustomerChanged(new CustomerChangedEvent(1L, null));
+
+        cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        cachingService.getRewardRowsForCustomer(1L, JULY, JULY);
+        cachingService.getRewardRowsForCustomer(2L, JULY, AUGUST);
+        cachingService.getCustomerTransactions(1L);
+        cachingService.getCustomerTransactions(2L);
+
+        verify(delegate, times(2)).getRewardRowsForCustomer(1L, JULY, AUGUST);
+        verify(delegate, times(2)).getRewardRowsForCustomer(1L, JULY, JULY);
+        verify(delegate, times(1)).getRewardRowsForCustomer(2L, JULY, AUGUST);
+        verify(delegate, times(2)).getCustomerTransactions(1L);
+        verify(delegate, times(1)).getCustomerTransactions(2L);
+    }
+
+    @Test
+    @DisplayName("Cache - Entry From Before The Current Version Reloaded (Change Committed By Another Instance)")
+    void testOlderVersionReloaded() {
+        RewardRows first = cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        cachingService.getCustomerTransactions(1L);
+
+        // No CustomerChangedEvent here: the change was committed elsewhere, only the version shows it
+        when(versionService.getVersion(1L)).thenReturn(2L);
+        RewardRows second = cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        RewardRows third = cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        cachingService.getCustomerTransactions(1L);
+        cachingService.getCustomerTransactions(1L);
+
+        assertNotSame(first, second);
+        assertSame(second, third);
+        verify(delegate, times(2)).getRewardRowsForCustomer(1L, JULY, AUGUST);
+        verify(delegate, times(2)).getCustomerTransactions(1L);
+    }
+
+    @Test
+    @DisplayName("Cache - Version Of A Completed Entry Served For Conditional GETs")
+    void testCachedVersion() {
+        assertNull(cachingService.getCachedRewardsVersion(1L, JULY, AUGUST));
+        assertNull(cachingService.getCachedTransactionsVersion(1L));
+
+        cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        cachingService.getCustomerTransactions(1L);
+        when(versionService.getVersion(1L)).thenReturn(2L);
+
+        assertEquals(1L, cachingService.getCachedRewardsVersion(1L, JULY, AUGUST));
+        assertEquals(1L, cachingService.getCachedTransactionsVersion(1L));
+        assertNull(cachingService.getCachedRewardsVersion(1L, JULY, JULY));
+        cachingService.onCustomerChanged(new CustomerChangedEvent(1L, null));
+        assertNull(cachingService.getCachedRewardsVersion(1L, JULY, AUGUST));
+        assertNull(cachingService.getCachedTransactionsVersion(1L));
+        verify(versionService, times(2)).getVersion(1L);
+    }
+
+    @Test
+    @DisplayName("Cache - Bypassed While The Customer's Version Is Withheld")
+    void testNoVersionNotCached() {
+        when(versionService.getVersion(1L)).thenReturn(null);
+
+        cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        cachingService.getRewardRowsForCustomer(1L, JULY, AUGUST);
+
+        verify(delegate, times(2)).getRewardRowsForCustomer(1L, JULY, AUGUST);
+    }
+
+    @Test
+    @DisplayName("Cache - Failed Lookups Are Not Cached")
+    void testExceptionsNotCached() {
+        when(delegate.getRewardRowsForCustomer(3L, JULY, AUGUST))
+                .thenThrow(new RuntimeException("No transactions found"))
+                .thenReturn(rows());
+
+        assertThrows(RuntimeException.class, () -> cachingService.getRewardRowsForCustomer(3L, JULY, AUGUST));
+        assertNotNull(cachingService.getRewardRowsForCustomer(3L, JULY, AUGUST));
+        verify(delegate, times(2)).getRewardRowsForCustomer(3L, JULY, AUGUST);
+    }
+
+    @Test
+    @DisplayName("Cache - Switched Off Per Endpoint")
+    void testDisabled() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CachingRewardService rewardsOff = new CachingRewardService(delegate, false, true, 100, Duration.ofMinutes(5),
+                new ReadYourWrites(false, Duration.ZERO), versionService, registry);
+
+        rewardsOff.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        rewardsOff.getRewardRowsForCustomer(1L, JULY, AUGUST);
+        rewardsOff.getCustomerTransactions(1L);
+        rewardsOff.getCustomerTransactions(1L);
+
+        verify(delegate, times(2)).getRewardRowsForCustomer(1L, JULY, AUGUST);
+        verify(delegate, times(1)).getCustomerTransactions(1L);
+        assertNull(registry.find("rewards.cache.hit.ratio").tag("cache", "rewardResponses").gauge());
+    }
+
+    private static RewardRows rows() {
+        return new RewardRows(1L, "John Doe", null, Map.of(), 0, List.of(), JULY, AUGUST);
+    }
+}
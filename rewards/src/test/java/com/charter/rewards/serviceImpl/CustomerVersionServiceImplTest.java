@@ -0,0 +1,91 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.datasource.ReadYourWrites;
+import com.charter.rewards.repository.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class CustomerVersionServiceImplTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    private CustomerVersionServiceImpl versionService;
+
+    @BeforeEach
+    void setUp() {
+        versionService = new CustomerVersionServiceImpl(customerRepository, new ReadYourWrites(false, Duration.ZERO));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Ledger Version - Read On Every Call, Null For Unknown Customers")
+    void testGetVersionReadPerCall() {
+        when(customerRepository.findLedgerVersion(1L)).thenReturn(Optional.of(3L));
+        when(customerRepository.findLedgerVersion(9L)).thenReturn(Optional.empty());
+
+        assertEquals(3L, versionService.getVersion(1L));
+        assertEquals(3L, versionService.getVersion(1L));
+        assertNull(versionService.getVersion(9L));
+        assertNull(versionService.getVersion(9L));
+
+        // Nothing kept between calls: a version bumped by another instance is seen by the next one
+        verify(customerRepository, times(2)).findLedgerVersion(1L);
+        verify(customerRepository, times(2)).findLedgerVersion(9L);
+    }
+
+    @Test
+    @DisplayName("Ledger Version - Withheld While Committing, New Version Served After Completion")
+    void testBumpCommit() {
+        when(customerRepository.findLedgerVersion(1L)).thenReturn(Optional.of(3L));
+        when(customerRepository.findLedgerVersion(2L)).thenReturn(Optional.of(5L));
+        assertEquals(3L, versionService.getVersion(1L));
+
+        versionService.bump(Set.of(2L, 1L));
+        verify(customerRepository).incrementLedgerVersions(List.of(1L, 2L));
+        // Not committing yet: other readers still see the committed version
+        assertEquals(3L, versionService.getVersion(1L));
+
+        TransactionSynchronization release = TransactionSynchronizationManager.getSynchronizations().get(0);
+        release.beforeCommit(false);
+        assertNull(versionService.getVersion(1L));
+        assertNull(versionService.getVersion(2L));
+
+        when(customerRepository.findLedgerVersion(1L)).thenReturn(Optional.of(4L));
+        release.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(4L, versionService.getVersion(1L));
+        assertEquals(5L, versionService.getVersion(2L));
+    }
+
+    @Test
+    @DisplayName("Ledger Version - Released On Rollback")
+    void testBumpRollback() {
+        when(customerRepository.findLedgerVersion(1L)).thenReturn(Optional.of(3L));
+
+        versionService.bump(Set.of(1L));
+        TransactionSynchronization release = TransactionSynchronizationManager.getSynchronizations().get(0);
+        release.beforeCommit(false);
+        release.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(3L, versionService.getVersion(1L));
+    }
+}
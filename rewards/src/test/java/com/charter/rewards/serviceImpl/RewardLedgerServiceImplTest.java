@@ -0,0 +1,128 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.dto.LedgerCheckDTO;
+import com.charter.rewards.ledger.RewardLedger;
+import com.charter.rewards.repository.CustomerMonthlyRewardRepository;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.CustomerTransactionRow;
+import com.charter.rewards.repository.RewardMonthRow;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class RewardLedgerServiceImplTest {
+
+    @InjectMocks
+    private RewardLedgerServiceImpl ledgerService;
+
+    @Spy
+    private RewardLedger ledger = new RewardLedger(true);
+
+    @Mock
+    private CustomerMonthlyRewardRepository rollupRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+    }
+
+    @Test
+    @DisplayName("Warm - Ledger Loaded From Rollup")
+    void testWarm() {
+        when(rollupRepository.streamAll()).thenAnswer(i -> Stream.of(rollup(1L, "2025-07", 25), rollup(1L, "2025-08", 90)));
+
+        ledgerService.warm();
+
+        assertTrue(ledger.isReady());
+        assertEquals(Map.of("2025-07", 25, "2025-08", 90), ledger.monthlyRewards(1L));
+    }
+
+    @Test
+    @DisplayName("Check - Consistent Ledger")
+    void testCheckConsistent() {
+        when(rollupRepository.streamAll()).thenAnswer(i -> Stream.of(rollup(1L, "2025-08", 90)));
+        ledgerService.warm();
+        List<CustomerTransactionRow> rows = List.of(
+                row(1L, "2025-08-01", 40.0), row(1L, "2025-08-10", 120.0), row(2L, null, null));
+        when(customerRepository.streamCustomerTransactionRows()).thenReturn(rows.stream());
+
+        LedgerCheckDTO result = ledgerService.check(false);
+
+        assertTrue(result.isConsistent());
+        assertEquals(2, result.getCustomersChecked());
+        assertTrue(result.getMismatches().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Check - Mismatches Reported, Repair Reloads Ledger")
+    void testCheckAndRepair() {
+        when(rollupRepository.streamAll()).thenAnswer(i -> Stream.of(rollup(1L, "2025-08", 50), rollup(3L, "2025-01", 10)));
+        ledgerService.warm();
+        CustomerTransactionRow row = row(1L, "2025-08-10", 120.0);
+        when(customerRepository.streamCustomerTransactionRows()).thenAnswer(i -> Stream.of(row));
+
+        LedgerCheckDTO check = ledgerService.check(false);
+        assertFalse(check.isConsistent());
+        assertEquals(2, check.getMismatchCount());
+        assertEquals(1L, check.getMismatches().get(0).getCustomerId());
+        assertEquals(50, check.getMismatches().get(0).getLedgerPoints());
+        assertEquals(90, check.getMismatches().get(0).getDatabasePoints());
+        assertEquals(3L, check.getMismatches().get(1).getCustomerId());
+
+        LedgerCheckDTO repair = ledgerService.check(true);
+        assertTrue(repair.isRepaired());
+        assertEquals(Map.of("2025-08", 90), ledger.monthlyRewards(1L));
+        assertTrue(ledger.monthlyRewards(3L).isEmpty());
+        assertTrue(ledgerService.check(false).isConsistent());
+    }
+
+    @Test
+    @DisplayName("Repair - Points Committed While Recomputing Are Kept")
+    void testRepairKeepsConcurrentCommits() {
+        when(rollupRepository.streamAll()).thenAnswer(i -> Stream.empty());
+        ledgerService.warm();
+        // Committed after the recomputation's read opened, so not part of it
+        when(customerRepository.streamCustomerTransactionRows()).thenAnswer(i -> Stream.of(row(1L, "2025-08-10", 120.0))
+                .peek(row -> ledger.record(1L, LocalDate.of(2025, 8, 20), 12000L)));
+
+        ledgerService.check(true);
+
+        assertEquals(Map.of("2025-08", 180), ledger.monthlyRewards(1L));
+    }
+
+    private static RewardMonthRow rollup(Long customerId, String month, int points) {
+        RewardMonthRow row = mock(RewardMonthRow.class);
+        when(row.getCustomerId()).thenReturn(customerId);
+        when(row.getRewardMonth()).thenReturn(month);
+        when(row.getPoints()).thenReturn(points);
+        return row;
+    }
+
+    private static CustomerTransactionRow row(Long customerId, String date, Double amount) {
+        CustomerTransactionRow row = mock(CustomerTransactionRow.class);
+        when(row.getCustomerId()).thenReturn(customerId);
+        when(row.getDate()).thenReturn(date == null ? null : LocalDate.parse(date));
+        when(row.getAmountCents()).thenReturn(amount == null ? null : Math.round(amount * 100));
+        return row;
+    }
+}
@@ -0,0 +1,139 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.repository.CustomerMonthlyRewardRepository;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.TransactionColumnsRow;
+import com.charter.rewards.repository.TransactionRepository;
+import com.charter.rewards.util.MonthlyRewardTotals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.LocalDate;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class RewardRollupServiceImplTest {
+
+    @InjectMocks
+    private RewardRollupServiceImpl rollupService;
+
+    @Mock
+    private CustomerMonthlyRewardRepository rollupRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Record Transactions - One Batch, One Row Per Month")
+    void testRecordTransactionsGroupsByMonth() {
+        rollupService.recordTransactions(1L, Arrays.asList(
+                tx(LocalDate.of(2025, 8, 1), 40.0),
+                tx(LocalDate.of(2025, 7, 5), 75.0),
+                tx(LocalDate.of(2025, 8, 10), 120.0)));
+
+        ArgumentCaptor<Map<Long, MonthlyRewardTotals>> totals = ArgumentCaptor.forClass(Map.class);
+        verify(rollupRepository).addToMonths(totals.capture());
+        verifyNoMoreInteractions(rollupRepository);
+        assertEquals(List.of("1 2025-07 25 1 7500", "1 2025-08 90 2 16000"), rows(totals.getValue()));
+    }
+
+    @Test
+    @DisplayName("Record Transactions - Nothing To Record")
+    void testRecordTransactionsEmpty() {
+        rollupService.recordTransactions(1L, null);
+        rollupService.recordTransactions(1L, Collections.emptyList());
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("Rebuild - Regenerates Rollup From Raw Transactions")
+    void testRebuild() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(customerRepository.findIdsAfter(eq(0L), any(Limit.class))).thenReturn(ids);
+        when(transactionRepository.findColumnsByCustomerIdIn(ids)).thenReturn(List.of(
+                row(1L, LocalDate.of(2025, 8, 1), 40.0),
+                row(3L, LocalDate.of(2025, 6, 15), 200.0),
+                row(1L, LocalDate.of(2025, 8, 10), 120.0)));
+        when(rollupRepository.addToMonths(any())).thenAnswer(call -> rows(call.getArgument(0)).size());
+
+        int rows = rollupService.rebuild();
+
+        assertEquals(2, rows);
+        ArgumentCaptor<Map<Long, MonthlyRewardTotals>> totals = ArgumentCaptor.forClass(Map.class);
+        InOrder inOrder = inOrder(customerRepository, transactionRepository, rollupRepository, transactionManager);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(customerRepository).lockForUpdate(ids);
+        inOrder.verify(transactionRepository).findColumnsByCustomerIdIn(ids);
+        inOrder.verify(rollupRepository).deleteByCustomerIds(ids);
+        inOrder.verify(rollupRepository).addToMonths(totals.capture());
+        inOrder.verify(transactionManager).commit(any());
+        assertEquals(List.of("1 2025-08 90 2 16000", "3 2025-06 250 1 20000"), rows(totals.getValue()));
+        verify(rollupRepository, never()).deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Rebuild - One Transaction Per Batch Of Customers")
+    void testRebuildInBatches() {
+        ReflectionTestUtils.setField(rollupService, "rebuildBatchSize", 2);
+        when(customerRepository.findIdsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(1L, 2L));
+        when(customerRepository.findIdsAfter(eq(2L), any(Limit.class))).thenReturn(List.of(3L));
+        when(transactionRepository.findColumnsByCustomerIdIn(any())).thenReturn(List.of());
+
+        rollupService.rebuild();
+
+        verify(transactionManager, times(2)).commit(any());
+        verify(customerRepository).lockForUpdate(List.of(1L, 2L));
+        verify(customerRepository).lockForUpdate(List.of(3L));
+        verify(rollupRepository).deleteByCustomerIds(List.of(1L, 2L));
+        verify(rollupRepository).deleteByCustomerIds(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Rebuild If Empty - Skipped When Rollup Exists")
+    void testRebuildIfEmptySkipped() {
+        when(rollupRepository.count()).thenReturn(3L);
+        assertEquals(0, rollupService.rebuildIfEmpty());
+        verify(rollupRepository, never()).deleteByCustomerIds(any());
+    }
+
+    private static Transaction tx(LocalDate date, double amount) {
+        Transaction tx = new Transaction();
+        tx.setDate(date);
+        tx.setAmount(amount);
+        return tx;
+    }
+
+    private static TransactionColumnsRow row(Long customerId, LocalDate date, double amount) {
+        return new TransactionColumnsRow() {
+            public Long getCustomerId() { return customerId; }
+            public LocalDate getDate() { return date; }
+            public Long getAmountCents() { return Math.round(amount * 100); }
+            public String getProduct() { return "Product"; }
+        };
+    }
+
+    // "customer month points txCount amountCents" in the (customer, month) order they are written
+    private static List<String> rows(Map<Long, MonthlyRewardTotals> totals) {
+        List<String> rows = new ArrayList<>();
+        new TreeMap<>(totals).forEach((customerId, months) -> months.forEach((month, points, txCount, amountCents) ->
+                rows.add(customerId + " " + month + " " + points + " " + txCount + " " + amountCents)));
+        return rows;
+    }
+}
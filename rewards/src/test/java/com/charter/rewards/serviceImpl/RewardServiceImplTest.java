@@ -1,21 +1,35 @@
 package com.charter.rewards.serviceImpl;
 
+import com.charter.rewards.aggregation.RewardAggregator;
 import com.charter.rewards.dto.*;
 import com.charter.rewards.entity.Customer;
 import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.event.CustomerChangedEvent;
+import com.charter.rewards.exception.CustomException;
+import com.charter.rewards.mapper.RewardMapper;
 import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.CustomerTransactionRow;
 import com.charter.rewards.repository.TransactionRepository;
+import com.charter.rewards.service.RewardRollupService;
+import com.charter.rewards.util.TransactionCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -31,14 +45,27 @@ class RewardServiceImplTest {
     @Mock
     private TransactionRepository transactionRepository;
 
-    @Mock
-    private ModelMapper mapper;
+    @Spy
+    private RewardMapper mapper = new RewardMapper();
+
+    // Threshold 2, one transaction per slice: every multi-transaction response takes the fork-join path
+    @Spy
+    private RewardAggregator aggregator = new RewardAggregator(new RewardMapper(), 2, 2, 1, new SimpleMeterRegistry());
 
     @Mock
     private Environment env;
     
     @Mock
     private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private RewardRollupService rollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
     
     private Customer customer;
     private Transaction tx1, tx2;
@@ -79,38 +106,102 @@ class RewardServiceImplTest {
         customerDTO.setCustName("John Doe");
         customerDTO.setPhoneNo("1234567890");
         customerDTO.setTransactions(Arrays.asList(txDto1, txDto2));
-
-        // Always return a new DTO to avoid NPE in buildResponse()
-        when(mapper.map(any(Transaction.class), eq(TransactionDTO.class))).thenAnswer(i -> {
-            Transaction t = i.getArgument(0);
-            TransactionDTO dto = new TransactionDTO();
-            dto.setAmount(t.getAmount());
-            dto.setDate(t.getDate());
-            dto.setProduct(t.getProduct());
-            return dto;
-        });
     }
 
     // ---------------- createCustomer Tests ----------------
     @Test
     @DisplayName("Create Customer - Success")
     void testCreateCustomerSuccess() {
-        when(mapper.map(customerDTO, Customer.class)).thenReturn(customer);
-        when(customerRepository.save(customer)).thenReturn(customer);
-        when(mapper.map(customer, CustomerResponseDTO.class)).thenReturn(new CustomerResponseDTO());
+        when(passwordEncoder.encode("1234567890")).thenReturn("encoded");
+        when(customerRepository.save(any(Customer.class))).thenAnswer(i -> {
+            Customer saved = i.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
 
         CustomerResponseDTO response = rewardService.createCustomer(customerDTO);
         assertNotNull(response);
-        verify(customerRepository, times(1)).save(customer);
+        assertEquals(1L, response.getId());
+        assertEquals("John Doe", response.getCustName());
+        assertEquals("encoded", response.getPhoneNo());
+        assertEquals(2, response.getTransactions().size());
+        assertEquals(120.0, response.getTransactions().get(1).getAmount());
+        verify(customerRepository, times(1)).save(any(Customer.class));
+        verify(rollupService, times(1)).recordTransactions(eq(1L), anyList());
+        verify(eventPublisher, times(1)).publishEvent(new CustomerChangedEvent(1L, "John Doe"));
+    }
+
+    @Test
+    @DisplayName("Create Customer - Hashed Before The Transaction Starts")
+    void testCreateCustomerHashesOutsideTransaction() {
+        when(passwordEncoder.encode("1234567890")).thenReturn("encoded");
+        when(customerRepository.save(any(Customer.class))).thenAnswer(i -> i.getArgument(0));
+
+        rewardService.createCustomer(customerDTO);
+
+        InOrder inOrder = inOrder(passwordEncoder, transactionManager, customerRepository);
+        inOrder.verify(passwordEncoder).encode("1234567890");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(customerRepository).save(any(Customer.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Create Customer - Name Taken Concurrently Gets The Same 400 As The Check")
+    void testCreateCustomerDuplicateNameRace() {
+        when(customerRepository.existsByCustName("John Doe")).thenReturn(false, true);
+        when(customerRepository.save(any(Customer.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_customers_cust_name"));
+        when(env.getProperty("error.customer.exists", "Customer already exists")).thenReturn("Customer already exists");
+
+        CustomException ex = assertThrows(CustomException.class, () -> rewardService.createCustomer(customerDTO));
+        assertEquals("Customer already exists: John Doe", ex.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Create Customer - Other Constraint Violations Are Not Reported As Duplicates")
+    void testCreateCustomerOtherViolation() {
+        when(customerRepository.save(any(Customer.class)))
+                .thenThrow(new DataIntegrityViolationException("product too long"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> rewardService.createCustomer(customerDTO));
+        verify(customerRepository, times(2)).existsByCustName("John Doe");
+    }
+
+    @Test
+    @DisplayName("Create Customer - Duplicate Name Rejected")
+    void testCreateCustomerDuplicateName() {
+        when(customerRepository.existsByCustName("John Doe")).thenReturn(true);
+        when(env.getProperty("error.customer.exists", "Customer already exists")).thenReturn("Customer already exists");
+
+        CustomException ex = assertThrows(CustomException.class, () -> rewardService.createCustomer(customerDTO));
+        assertEquals("Customer already exists: John Doe", ex.getMessage());
+        verify(customerRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Create Customer - Missing Amount Rejected")
+    void testCreateCustomerMissingAmount() {
+        customerDTO.getTransactions().get(1).setAmount(null);
+        when(env.getProperty("error.transaction.amount", "Transaction amount is required"))
+                .thenReturn("Transaction amount is required");
+
+        CustomException ex = assertThrows(CustomException.class, () -> rewardService.createCustomer(customerDTO));
+        assertEquals("Transaction amount is required", ex.getMessage());
+        verifyNoInteractions(passwordEncoder);
+        verify(customerRepository, never()).save(any());
     }
 
     // ---------------- getRewardSummary Tests ----------------
     @Test
     @DisplayName("Get Reward Summary - With Transactions")
     void testGetRewardSummaryWithTransactions() {
-        when(customerRepository.findAll()).thenReturn(Collections.singletonList(customer));
-        when(transactionRepository.findByCustomerId(1L)).thenReturn(Arrays.asList(tx1, tx2));
-        when(mapper.map(any(), eq(SummaryResponseDTO.class))).thenCallRealMethod();
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(Collections.singletonList(customer));
+        when(transactionRepository.findByCustomerIdInOrderByCustomerIdAscIdAsc(List.of(1L)))
+                .thenReturn(Arrays.asList(tx1, tx2));
 
         List<SummaryResponseDTO> result = rewardService.getRewardSummary();
         assertEquals(1, result.size());
@@ -120,12 +211,98 @@ class RewardServiceImplTest {
         assertTrue(summary.getMonthlyRewards().containsKey("2025-08"));
     }
 
+    @Test
+    @DisplayName("Get Reward Summary - Totals Agree With The Listed Transactions")
+    void testGetRewardSummaryTotalsFromTransactions() {
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(Collections.singletonList(customer));
+        when(transactionRepository.findByCustomerIdInOrderByCustomerIdAscIdAsc(List.of(1L)))
+                .thenReturn(Arrays.asList(tx1, tx2));
+
+        SummaryResponseDTO summary = rewardService.getRewardSummary().get(0);
+
+        int listed = summary.getTransactions().stream().mapToInt(TransactionDTO::getRewardPoints).sum();
+        assertEquals(listed, summary.getTotalRewards());
+        assertEquals(Map.of("2025-08", listed), summary.getMonthlyRewards());
+    }
+
     @Test
     @DisplayName("Get Reward Summary - Empty Customer List")
     void testGetRewardSummaryEmptyCustomerList() {
-        when(customerRepository.findAll()).thenReturn(Collections.emptyList());
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(Collections.emptyList());
         List<SummaryResponseDTO> summary = rewardService.getRewardSummary();
         assertTrue(summary.isEmpty());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    // Repository calls only; the SQL actually issued is counted in RewardQueryBudgetTest
+    @DisplayName("Get Reward Summary - Repository Calls Bounded By Pages, Not Customers")
+    void testGetRewardSummaryRepositoryCalls() {
+        ReflectionTestUtils.setField(rewardService, "summaryBatchSize", 2);
+
+        List<Customer> customers = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            Customer c = new Customer();
+            c.setId(id);
+            c.setCustName("Customer " + id);
+            customers.add(c);
+        }
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenAnswer(i -> {
+            long after = i.getArgument(0);
+            Limit limit = i.getArgument(1);
+            return customers.stream().filter(c -> c.getId() > after).limit(limit.max()).collect(Collectors.toList());
+        });
+        when(transactionRepository.findByCustomerIdInOrderByCustomerIdAscIdAsc(anyCollection())).thenAnswer(i -> {
+            Collection<Long> ids = i.getArgument(0);
+            return ids.contains(1L) ? Arrays.asList(tx1, tx2) : Collections.emptyList();
+        });
+
+        List<SummaryResponseDTO> result = rewardService.getRewardSummary();
+
+        assertEquals(5, result.size());
+        assertEquals(90, result.get(0).getTotalRewards());
+        assertEquals(0, result.get(4).getTotalRewards());
+        // 5 customers in pages of 2 -> 3 customer pages + 3 transaction batches, the short last page ends the scan
+        verify(customerRepository, times(3)).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+        verify(transactionRepository, times(3)).findByCustomerIdInOrderByCustomerIdAscIdAsc(anyCollection());
+        verify(transactionRepository, never()).findByCustomerId(anyLong());
+        verify(customerRepository, never()).findAll();
+    }
+
+    // ---------------- streamRewardSummary Tests ----------------
+    @Test
+    @DisplayName("Stream Reward Summary - One Summary Per Customer In Row Order")
+    void testStreamRewardSummary() {
+        when(customerRepository.streamCustomerTransactionRows()).thenReturn(Stream.of(
+                row(1L, "John Doe", LocalDate.of(2025, 8, 1), 40.0, "Product A"),
+                row(1L, "John Doe", LocalDate.of(2025, 8, 10), 120.0, "Product B"),
+                row(2L, "Jack", null, null, null),
+                row(3L, "Joy", LocalDate.of(2025, 7, 5), 75.0, "Headphones")));
+
+        List<SummaryResponseDTO> result = new ArrayList<>();
+        rewardService.streamRewardSummary(result::add);
+
+        assertEquals(3, result.size());
+        assertEquals(90, result.get(0).getTotalRewards());
+        assertEquals(2, result.get(0).getTransactions().size());
+        assertEquals(Map.of("2025-08", 90), result.get(0).getMonthlyRewards());
+        assertEquals(0, result.get(1).getTotalRewards());
+        assertTrue(result.get(1).getTransactions().isEmpty());
+        assertEquals(25, result.get(2).getMonthlyRewards().get("2025-07"));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private static CustomerTransactionRow row(Long customerId, String custName, LocalDate date, Double amount, String product) {
+        return new CustomerTransactionRow() {
+            public Long getCustomerId() { return customerId; }
+            public String getCustName() { return custName; }
+            public String getPhoneNo() { return "1234567890"; }
+            public LocalDate getDate() { return date; }
+            public Long getAmountCents() { return amount == null ? null : Math.round(amount * 100); }
+            public String getProduct() { return product; }
+        };
     }
 
     // ---------------- getCustomerTransactions Tests ----------------
@@ -166,6 +343,68 @@ class RewardServiceImplTest {
         assertEquals("2025-08-01", response.getTransactions().get(0).getDate().toString().substring(0, 10));
     }
 
+    @Test
+    @DisplayName("Get Rewards For Customer - Whole Months Totalled From The Listed Transactions")
+    void testGetRewardsForCustomerWholeMonths() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(transactionRepository.findByCustomerIdAndDateBetween(eq(1L), any(), any()))
+                .thenReturn(Arrays.asList(tx1, tx2));
+
+        RewardResponseDTO response = rewardService.getRewardsForCustomer(
+                1L, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 8, 31)
+        );
+
+        assertEquals(90, response.getTotalRewards());
+        assertEquals(Map.of("2025-08", 90), response.getMonthlyRewards());
+    }
+
+    @Test
+    @DisplayName("Get Rewards For Customer - Partial Month Range Aggregates Transactions")
+    void testGetRewardsForCustomerPartialMonth() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(transactionRepository.findByCustomerIdAndDateBetween(eq(1L), any(), any()))
+                .thenReturn(Arrays.asList(tx1, tx2));
+
+        RewardResponseDTO response = rewardService.getRewardsForCustomer(
+                1L, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 15)
+        );
+
+        assertEquals(90, response.getTotalRewards());
+        assertEquals(Map.of("2025-08", 90), response.getMonthlyRewards());
+    }
+
+    @Test
+    @DisplayName("Get Reward Rows - Points Per Row, Totals As In The DTO")
+    void testGetRewardRowsForCustomer() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(transactionRepository.findByCustomerIdAndDateBetween(eq(1L), any(), any()))
+                .thenReturn(Arrays.asList(tx1, tx2));
+
+        RewardRows rows = rewardService.getRewardRowsForCustomer(1L, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 15));
+
+        assertEquals(90, rows.totalRewards());
+        assertEquals(Map.of("2025-08", 90), rows.monthlyRewards());
+        assertEquals(List.of(new RewardRows.Row(tx1.getDate(), tx1.getAmountCents(), tx1.getProduct(), 0),
+                new RewardRows.Row(tx2.getDate(), tx2.getAmountCents(), tx2.getProduct(), 90)), rows.rows());
+        assertThrows(UnsupportedOperationException.class, () -> rows.rows().clear());
+        assertThrows(UnsupportedOperationException.class, () -> rows.monthlyRewards().clear());
+        assertEquals(LocalDate.of(2025, 8, 15), rows.endDate());
+    }
+
+    @Test
+    @DisplayName("Get Reward Rows - Whole Months Agree With The Rows")
+    void testGetRewardRowsForCustomerWholeMonths() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(transactionRepository.findByCustomerIdAndDateBetween(eq(1L), any(), any()))
+                .thenReturn(Arrays.asList(tx1, tx2));
+
+        RewardRows rows = rewardService.getRewardRowsForCustomer(1L, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 8, 31));
+
+        assertEquals(90, rows.totalRewards());
+        assertEquals(Map.of("2025-08", 90), rows.monthlyRewards());
+        assertEquals(List.of(0, 90), rows.rows().stream().map(RewardRows.Row::rewardPoints).toList());
+    }
+
     @Test
     @DisplayName("Get Rewards For Customer - No Transactions Found")
     void testGetRewardsForCustomerNoTransactions() {
@@ -302,6 +541,56 @@ class RewardServiceImplTest {
         List<TransactionDTO> txList = rewardService.getCustomerTransactions(1L);
         assertEquals(1850, txList.get(0).getRewardPoints());
     }
-}
 
+    @Test
+    @DisplayName("Transactions Page - Extra Row Yields A Cursor To The Last Returned Transaction")
+    void testTransactionsFirstPage() {
+        List<Transaction> rows = pageRows(3);
+        when(transactionRepository.findByCustomerIdOrderByDateAscIdAsc(1L, Limit.of(3))).thenReturn(rows);
+
+        TransactionPageDTO page = rewardService.getCustomerTransactions(1L, 2, null);
 
+        assertEquals(2, page.getTransactions().size());
+        assertEquals(25, page.getTransactions().get(1).getRewardPoints());
+        assertEquals(new TransactionCursor(LocalDate.of(2025, 7, 2), 11L), TransactionCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("Transactions Page - Cursor Seeks Past (date, id); Last Page Has No Cursor")
+    void testTransactionsNextPage() {
+        String after = new TransactionCursor(LocalDate.of(2025, 7, 2), 11L).encode();
+        List<Transaction> rows = pageRows(1);
+        when(transactionRepository.findPageAfter(1L, LocalDate.of(2025, 7, 2), 11L, Limit.of(3))).thenReturn(rows);
+
+        TransactionPageDTO page = rewardService.getCustomerTransactions(1L, 2, after);
+
+        assertEquals(1, page.getTransactions().size());
+        assertNull(page.getNextCursor());
+        verify(transactionRepository, never()).findByCustomerIdOrderByDateAscIdAsc(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Transactions Page - Limit Out Of Range Or Bad Cursor Is Rejected")
+    void testTransactionsPageValidation() {
+        assertThrows(CustomException.class, () -> rewardService.getCustomerTransactions(1L, 0, null));
+        assertThrows(CustomException.class, () -> rewardService.getCustomerTransactions(1L, 1001, null));
+        assertThrows(CustomException.class, () -> rewardService.getCustomerTransactions(1L, 10, "not a cursor"));
+        assertThrows(CustomException.class, () -> rewardService.getCustomerTransactions(1L, 10, "Zm9v"));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    // Ids 10, 11, ... one day apart from 2025-07-01, $75 each
+    private List<Transaction> pageRows(int count) {
+        List<Transaction> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Transaction tx = new Transaction();
+            tx.setId(10L + i);
+            tx.setDate(LocalDate.of(2025, 7, 1).plusDays(i));
+            tx.setAmount(75.0);
+            tx.setProduct("Product");
+            tx.setCustomer(customer);
+            rows.add(tx);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,87 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.dto.CustomerDTO;
+import com.charter.rewards.dto.TransactionImportReportDTO;
+import com.charter.rewards.repository.ImportCheckpointRepository;
+import com.charter.rewards.service.RewardService;
+import com.charter.rewards.service.TransactionImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+// File import against H2: a chunk that fails in the database rolls back together with its checkpoint, and the
+// rerun resumes at that chunk without writing the committed ones again
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:import-checkpoint;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "rewards.import.chunk-size=2",
+        "rewards.import.threads=2",
+        "rewards.security.bcrypt.strength=4"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class TransactionImportCheckpointTest {
+
+    @Autowired
+    private TransactionImportService importService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Import Checkpoint - Committed With Its Chunk, Rerun Writes No Line Twice")
+    void testCheckpointCommittedWithChunk() throws Exception {
+        CustomerDTO customer = new CustomerDTO();
+        customer.setCustName("Importer");
+        customer.setPhoneNo("9000000001");
+        customer.setTransactions(List.of());
+        Long id = rewardService.createCustomer(customer).getId();
+        // Line 4's product is longer than the column, so the second chunk fails at insert
+        Path file = dir.resolve("transactions.csv");
+        Files.write(file, List.of(
+                "customerId,date,product,amount",
+                id + ",2025-07-05,Headphones,75.0",
+                id + ",2025-08-01,Cable,40.0",
+                id + ",2025-08-10," + "L".repeat(150) + ",120.0",
+                id + ",2025-08-11,Mouse,20.0"));
+
+        assertThrows(RuntimeException.class, () -> importService.importFile(file));
+        assertEquals(2, count(id));
+        String key = TransactionImportServiceImpl.checkpointKey(file);
+        assertEquals(3, checkpointRepository.findById(key).orElseThrow().getLastLine());
+
+        Files.write(file, List.of(
+                "customerId,date,product,amount",
+                id + ",2025-07-05,Headphones,75.0",
+                id + ",2025-08-01,Cable,40.0",
+                id + ",2025-08-10,Laptop,120.0",
+                id + ",2025-08-11,Mouse,20.0"));
+        TransactionImportReportDTO report = importService.importFile(file);
+
+        assertEquals(3, report.getResumedFromLine());
+        assertEquals(2, report.getInserted());
+        assertEquals(4, count(id));
+        assertEquals(5, checkpointRepository.findById(key).orElseThrow().getLastLine());
+    }
+
+    private int count(Long customerId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions WHERE customer_id = ?", Integer.class, customerId);
+    }
+}
@@ -0,0 +1,192 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.dto.BulkTransactionResponseDTO;
+import com.charter.rewards.dto.TransactionImportReportDTO;
+import com.charter.rewards.dto.TransactionRequestDTO;
+import com.charter.rewards.dto.TransactionRowErrorDTO;
+import com.charter.rewards.entity.ImportCheckpoint;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.ImportCheckpointRepository;
+import com.charter.rewards.service.TransactionIngestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class TransactionImportServiceImplTest {
+
+    @InjectMocks
+    private TransactionImportServiceImpl importService;
+
+    @Mock
+    private TransactionIngestService ingestService;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path dir;
+
+    // Every row the ingest service was asked to write, in call order, and the checkpoints committed with them
+    private final List<TransactionRequestDTO> written = Collections.synchronizedList(new ArrayList<>());
+    private final List<ImportCheckpoint> checkpoints = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        ReflectionTestUtils.setField(importService, "threads", 2);
+        when(customerRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(ingestService.ingest(anyList(), anySet(), any(ImportCheckpoint.class)))
+                .thenAnswer(inv -> accept(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2)));
+    }
+
+    @Test
+    @DisplayName("Import CSV - Header Skipped, Rows Written In File Order")
+    void testImportCsv() throws Exception {
+        Path file = write("transactions.csv",
+                "customerId,date,product,amount",
+                "1,2025-07-05,Headphones,75.0",
+                "2,2025-08-01,\"Cable, USB\",40.0",
+                "1,2025-08-10,Laptop,120.0",
+                "2,2025-08-11,Mouse,20.0",
+                "1,2025-08-12,Desk,300.0");
+
+        TransactionImportReportDTO report = importService.importFile(file);
+
+        assertEquals(5, report.getInserted());
+        assertEquals(0, report.getRejected());
+        assertEquals(6, report.getLastLine());
+        assertEquals(List.of(75.0, 40.0, 120.0, 20.0, 300.0), written.stream().map(TransactionRequestDTO::getAmount).toList());
+        assertEquals("Cable, USB", written.get(1).getProduct());
+        assertEquals(List.of(3L, 5L, 6L), checkpoints.stream().map(ImportCheckpoint::getLastLine).toList());
+        assertEquals(file.toAbsolutePath().toString(), checkpoints.get(0).getFilePath());
+        assertTrue(report.getRowsPerSecond() > 0);
+        verify(customerRepository, times(1)).findAllIds();
+    }
+
+    @Test
+    @DisplayName("Import - Unparseable And Unknown-Customer Rows Rejected")
+    void testImportRejectsBadRows() throws Exception {
+        Path file = write("transactions.csv",
+                "1,2025-07-05,Headphones,75.0",
+                "1,not-a-date,Laptop,120.0",
+                "99,2025-08-10,Laptop,120.0");
+
+        TransactionImportReportDTO report = importService.importFile(file);
+
+        assertEquals(1, report.getInserted());
+        assertEquals(2, report.getRejected());
+    }
+
+    @Test
+    @DisplayName("Import - Customer Created After The Import Started Accepted")
+    void testImportLooksUpNewCustomers() throws Exception {
+        when(customerRepository.findExistingIds(anyCollection()))
+                .thenAnswer(inv -> inv.<Collection<Long>>getArgument(0).stream().filter(id -> id == 3L).toList());
+        Path file = write("transactions.csv",
+                "1,2025-07-05,Headphones,75.0",
+                "3,2025-08-01,Cable,40.0",
+                "99,2025-08-10,Laptop,120.0",
+                "3,2025-08-11,Mouse,20.0");
+
+        TransactionImportReportDTO report = importService.importFile(file);
+
+        assertEquals(3, report.getInserted());
+        assertEquals(1, report.getRejected());
+        assertEquals(List.of(75.0, 40.0, 20.0), written.stream().map(TransactionRequestDTO::getAmount).toList());
+        // Chunks of 2: 3 is looked up with the first, so the second only lacks 99
+        verify(customerRepository).findExistingIds(Set.of(3L));
+        verify(customerRepository).findExistingIds(Set.of(99L));
+    }
+
+    @Test
+    @DisplayName("Import NDJSON - One Object Per Line")
+    void testImportNdjson() throws Exception {
+        Path file = write("transactions.ndjson",
+                "{\"customerId\":1,\"date\":\"2025-07-05\",\"product\":\"Headphones\",\"amount\":75.0}",
+                "",
+                "{\"customerId\":2,\"date\":\"2025-08-01\",\"product\":\"Cable\",\"amount\":40.0}");
+
+        TransactionImportReportDTO report = importService.importFile(file);
+
+        assertEquals(2, report.getInserted());
+        assertEquals(LocalDate.of(2025, 8, 1), written.get(1).getDate());
+    }
+
+    @Test
+    @DisplayName("Import - Resumes After Checkpoint")
+    void testImportResumesFromCheckpoint() throws Exception {
+        Path file = write("transactions.csv",
+                "1,2025-07-05,Headphones,75.0",
+                "2,2025-08-01,Cable,40.0",
+                "1,2025-08-10,Laptop,120.0");
+        when(checkpointRepository.findById(TransactionImportServiceImpl.checkpointKey(file)))
+                .thenReturn(Optional.of(new ImportCheckpoint(TransactionImportServiceImpl.checkpointKey(file), 2)));
+
+        TransactionImportReportDTO report = importService.importFile(file);
+
+        assertEquals(2, report.getResumedFromLine());
+        assertEquals(1, report.getInserted());
+        assertEquals(List.of(120.0), written.stream().map(TransactionRequestDTO::getAmount).toList());
+    }
+
+    @Test
+    @DisplayName("Import - Failure Leaves Checkpoint At Last Committed Chunk")
+    void testImportFailureKeepsCheckpoint() throws Exception {
+        Path file = write("transactions.csv",
+                "1,2025-07-05,Headphones,75.0",
+                "2,2025-08-01,Cable,40.0",
+                "1,2025-08-10,Laptop,120.0",
+                "2,2025-08-11,Mouse,20.0");
+        when(ingestService.ingest(anyList(), anySet(), any(ImportCheckpoint.class)))
+                .thenAnswer(inv -> accept(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> importService.importFile(file));
+        // Only the checkpoint that went with the committed chunk
+        assertEquals(List.of(2L), checkpoints.stream().map(ImportCheckpoint::getLastLine).toList());
+    }
+
+    private BulkTransactionResponseDTO accept(List<TransactionRequestDTO> rows, Set<Long> knownIds, ImportCheckpoint checkpoint) {
+        checkpoints.add(checkpoint);
+        List<TransactionRowErrorDTO> errors = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (knownIds.contains(rows.get(i).getCustomerId())) {
+                written.add(rows.get(i));
+            } else {
+                errors.add(new TransactionRowErrorDTO(i, rows.get(i).getCustomerId(), "Customer not found"));
+            }
+        }
+        BulkTransactionResponseDTO response = new BulkTransactionResponseDTO();
+        response.setReceived(rows.size());
+        response.setInserted(rows.size() - errors.size());
+        response.setErrors(errors);
+        return response;
+    }
+
+    private Path write(String name, String... lines) throws Exception {
+        return Files.write(dir.resolve(name), List.of(lines));
+    }
+}
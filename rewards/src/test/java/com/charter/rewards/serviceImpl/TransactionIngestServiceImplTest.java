@@ -0,0 +1,187 @@
+package com.charter.rewards.serviceImpl;
+
+import com.charter.rewards.dto.BulkTransactionResponseDTO;
+import com.charter.rewards.dto.TransactionRequestDTO;
+import com.charter.rewards.entity.Customer;
+import com.charter.rewards.entity.ImportCheckpoint;
+import com.charter.rewards.entity.Transaction;
+import com.charter.rewards.event.CustomerChangedEvent;
+import com.charter.rewards.exception.CustomException;
+import com.charter.rewards.repository.CustomerRepository;
+import com.charter.rewards.repository.ImportCheckpointRepository;
+import com.charter.rewards.service.CustomerVersionService;
+import com.charter.rewards.service.RewardRollupService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class TransactionIngestServiceImplTest {
+
+    @InjectMocks
+    private TransactionIngestServiceImpl ingestService;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private RewardRollupService rollupService;
+
+    @Mock
+    private CustomerVersionService customerVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Environment env;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ImportCheckpointRepository checkpointRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ingestService, "batchSize", 2);
+        when(env.getProperty(anyString(), anyString())).thenAnswer(inv -> inv.getArgument(1));
+        when(customerRepository.getReferenceById(anyLong())).thenAnswer(inv -> {
+            Customer c = new Customer();
+            c.setId(inv.getArgument(0));
+            return c;
+        });
+    }
+
+    @Test
+    @DisplayName("Bulk Ingest - Valid Rows Persisted In Batches")
+    void testIngestPersistsInBatches() {
+        when(customerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+
+        BulkTransactionResponseDTO response = ingestService.ingest(List.of(
+                row(1L, "2025-07-05", 75.0),
+                row(2L, "2025-08-01", 40.0),
+                row(1L, "2025-08-10", 120.0)));
+
+        assertEquals(3, response.getReceived());
+        assertEquals(3, response.getInserted());
+        assertTrue(response.getErrors().isEmpty());
+        verify(customerRepository, times(1)).findExistingIds(anyCollection());
+        verify(entityManager, times(3)).persist(any(Transaction.class));
+        // one flush at the batch boundary, one for the remainder
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Bulk Ingest - Invalid Rows Reported By Index")
+    void testIngestReportsInvalidRows() {
+        when(customerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+
+        TransactionRequestDTO noProduct = row(1L, "2025-08-01", 40.0);
+        noProduct.setProduct(" ");
+        BulkTransactionResponseDTO response = ingestService.ingest(Arrays.asList(
+                row(1L, "2025-08-01", 40.0),
+                row(99L, "2025-08-01", 40.0),
+                row(1L, "2025-08-01", -5.0),
+                noProduct,
+                row(null, "2025-08-01", 40.0)));
+
+        assertEquals(5, response.getReceived());
+        assertEquals(1, response.getInserted());
+        assertEquals(4, response.getErrors().size());
+        assertEquals(1, response.getErrors().get(0).getIndex());
+        assertEquals(99L, response.getErrors().get(0).getCustomerId());
+        assertEquals("Customer not found", response.getErrors().get(0).getError());
+        assertEquals("amount must not be negative", response.getErrors().get(1).getError());
+        assertEquals("product is required", response.getErrors().get(2).getError());
+        assertEquals("customerId is required", response.getErrors().get(3).getError());
+        verify(entityManager, times(1)).persist(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("Bulk Ingest - Customers Locked First, Rollup In One Batch, Event Per Customer")
+    void testIngestUpdatesRollupPerCustomer() {
+        when(customerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+
+        ingestService.ingest(List.of(
+                row(1L, "2025-07-05", 75.0),
+                row(2L, "2025-08-01", 40.0),
+                row(1L, "2025-08-10", 120.0)));
+
+        // Monthly totals only: 2025-07 and 2025-08 for customer 1, 2025-08 for customer 2
+        verify(rollupService).recordTotals(argThat(totals -> totals.size() == 2
+                && totals.get(1L).size() == 2 && totals.get(2L).size() == 1));
+        InOrder lockFirst = inOrder(customerRepository, entityManager);
+        lockFirst.verify(customerRepository).lockForUpdate(Set.of(1L, 2L));
+        lockFirst.verify(entityManager, times(3)).persist(any(Transaction.class));
+        ArgumentCaptor<CustomerChangedEvent> events = ArgumentCaptor.forClass(CustomerChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(1L, 2L), events.getAllValues().stream().map(CustomerChangedEvent::customerId).toList());
+        InOrder order = inOrder(eventPublisher, customerVersionService);
+        order.verify(eventPublisher, times(2)).publishEvent(any(CustomerChangedEvent.class));
+        order.verify(customerVersionService).bump(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Bulk Ingest - Preloaded Customer Ids Skip Lookup")
+    void testIngestWithKnownIds() {
+        BulkTransactionResponseDTO response = ingestService.ingest(
+                List.of(row(1L, "2025-08-01", 40.0)), Set.of(1L));
+
+        assertEquals(1, response.getInserted());
+        verify(customerRepository, never()).findExistingIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Bulk Ingest - Import Chunk Saves Its Checkpoint, Also When No Row Parsed")
+    void testIngestSavesImportCheckpoint() {
+        ImportCheckpoint checkpoint = new ImportCheckpoint("/data/transactions.csv", 5000);
+        BulkTransactionResponseDTO response = ingestService.ingest(
+                List.of(row(1L, "2025-08-01", 40.0)), Set.of(1L), checkpoint);
+        ImportCheckpoint empty = new ImportCheckpoint("/data/transactions.csv", 10000);
+        ingestService.ingest(List.of(), Set.of(1L), empty);
+
+        assertEquals(1, response.getInserted());
+        InOrder order = inOrder(entityManager, checkpointRepository);
+        order.verify(entityManager).persist(any(Transaction.class));
+        order.verify(checkpointRepository).save(checkpoint);
+        order.verify(checkpointRepository).save(empty);
+    }
+
+    @Test
+    @DisplayName("Bulk Ingest - Empty Or Oversized Request Rejected")
+    void testIngestRejectsEmptyAndOversized() {
+        assertThrows(CustomException.class, () -> ingestService.ingest(Collections.emptyList()));
+
+        ReflectionTestUtils.setField(ingestService, "maxRows", 1);
+        CustomException ex = assertThrows(CustomException.class, () -> ingestService.ingest(List.of(
+                row(1L, "2025-08-01", 40.0), row(1L, "2025-08-02", 40.0))));
+        assertTrue(ex.getMessage().endsWith("1"));
+        verifyNoInteractions(entityManager);
+    }
+
+    private static TransactionRequestDTO row(Long customerId, String date, double amount) {
+        TransactionRequestDTO dto = new TransactionRequestDTO();
+        dto.setCustomerId(customerId);
+        dto.setDate(LocalDate.parse(date));
+        dto.setProduct("Product");
+        dto.setAmount(amount);
+        return dto;
+    }
+}
@@ -0,0 +1,77 @@
+package com.charter.rewards.serviceImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class TransactionPartitionServiceImplTest {
+
+    @InjectMocks
+    private TransactionPartitionServiceImpl partitionService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(partitionService, "clock", Clock.fixed(Instant.parse("2026-11-15T00:00:00Z"), ZoneOffset.UTC));
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+    }
+
+    @Test
+    @DisplayName("Partitions - Months Up To Three Ahead Split Off The MAXVALUE Partition")
+    void testCreatesMonthsAhead() {
+        partitions(new String[]{"p2026_11", "'2026-12-01'"}, new String[]{"p2026_12", "'2027-01-01'"},
+                new String[]{"p_future", "MAXVALUE"});
+
+        assertEquals(2, partitionService.createPartitionsAhead());
+
+        verify(jdbcTemplate).execute("ALTER TABLE transactions REORGANIZE PARTITION p_future INTO ("
+                + "PARTITION p2027_01 VALUES LESS THAN ('2027-02-01'), "
+                + "PARTITION p2027_02 VALUES LESS THAN ('2027-03-01'), "
+                + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("Partitions - Nothing Added When Already Covered")
+    void testAlreadyCovered() {
+        partitions(new String[]{"p2027_02", "'2027-03-01'"}, new String[]{"p_future", "MAXVALUE"});
+
+        assertEquals(0, partitionService.createPartitionsAhead());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Partitions - Skipped On Other Databases And Unpartitioned Tables")
+    void testNotPartitioned() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        assertEquals(0, partitionService.createPartitionsAhead());
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class));
+
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        partitions();
+        assertEquals(0, partitionService.createPartitionsAhead());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void partitions(String[]... rows) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(List.of(rows));
+    }
+}
@@ -0,0 +1,64 @@
+package com.charter.rewards.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncCachesTest {
+
+    private final AsyncCache<Long, String> cache = Caffeine.newBuilder().buildAsync();
+
+    @Test
+    @DisplayName("Async Caches - Loaded Once, Null And Failures Not Cached")
+    void testReadThrough() {
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals("a", AsyncCaches.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            return "a";
+        }));
+        assertEquals("a", AsyncCaches.get(cache, 1L, id -> "b"));
+        assertEquals(1, loads.get());
+
+        assertNull(AsyncCaches.get(cache, 2L, id -> null));
+        assertEquals("c", AsyncCaches.get(cache, 2L, id -> "c"));
+
+        assertThrows(IllegalStateException.class, () -> AsyncCaches.get(cache, 3L, id -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("d", AsyncCaches.get(cache, 3L, id -> "d"));
+    }
+
+    @Test
+    @DisplayName("Async Caches - Invalidation Does Not Wait For A Load In Progress, Whose Result Is Dropped")
+    void testInvalidateDuringLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> reader = CompletableFuture.supplyAsync(() -> AsyncCaches.get(cache, 1L, id -> {
+            loading.countDown();
+            await(release);
+            return "stale";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Would block until the load finished if it ran inside the map's compute
+        CompletableFuture.runAsync(() -> cache.synchronous().invalidate(1L)).get(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertEquals("stale", reader.get(5, TimeUnit.SECONDS));
+        assertEquals("fresh", AsyncCaches.get(cache, 1L, id -> "fresh"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
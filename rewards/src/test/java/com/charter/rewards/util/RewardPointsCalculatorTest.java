@@ -0,0 +1,70 @@
+package com.charter.rewards.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RewardPointsCalculatorTest {
+
+    @Test
+    @DisplayName("Batch Points - Scalar Loop Matches Per-Row Calculation")
+    void testScalarBatch() {
+        long[] cents = boundaryAndRandomCents();
+        int[] out = new int[cents.length];
+        RewardPointsCalculator.calculatePointsScalar(cents, out, cents.length);
+
+        for (int i = 0; i < cents.length; i++) {
+            assertEquals(RewardPointsCalculator.calculatePointsFromCents(cents[i]), out[i], "cents=" + cents[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Batch Points - Vector Kernel Matches Scalar Loop, Including The Tail")
+    void testVectorMatchesScalar() {
+        assumeTrue(RewardPointsCalculator.isVectorized(), "jdk.incubator.vector not available");
+        long[] cents = boundaryAndRandomCents();
+
+        // Every length up to a few vectors, so each tail size is covered
+        for (int length = 0; length <= 67; length++) {
+            assertBatchEquals(cents, length);
+        }
+        assertBatchEquals(cents, cents.length);
+    }
+
+    @Test
+    @DisplayName("Batch Points - Only The First length Entries Are Written")
+    void testLengthRespected() {
+        long[] cents = new long[40];
+        Arrays.fill(cents, 12_000);
+        int[] out = new int[40];
+        Arrays.fill(out, -1);
+
+        RewardPointsCalculator.calculatePoints(cents, out, 21);
+
+        for (int i = 0; i < 21; i++) assertEquals(90, out[i]);
+        for (int i = 21; i < 40; i++) assertEquals(-1, out[i]);
+    }
+
+    private static void assertBatchEquals(long[] cents, int length) {
+        int[] expected = new int[length];
+        int[] actual = new int[length];
+        RewardPointsCalculator.calculatePointsScalar(cents, expected, length);
+        VectorPointsKernel.calculatePoints(cents, actual, length);
+        assertArrayEquals(expected, actual, "length=" + length);
+    }
+
+    // Band edges and their neighbours, negatives, then random amounts up to $10,000
+    private static long[] boundaryAndRandomCents() {
+        long[] edges = {Long.MIN_VALUE / 4, -10_001, -1, 0, 1, 4_999, 5_000, 5_001, 5_099, 5_100, 5_101,
+                9_999, 10_000, 10_001, 10_049, 10_050, 10_051, 10_099, 10_100, 99_999_999, 2_147_493_647L, 2_147_493_648L, 3_000_000_000L};
+        Random random = new Random(7L);
+        long[] cents = Arrays.copyOf(edges, 100_000);
+        for (int i = edges.length; i < cents.length; i++) {
+            cents[i] = random.nextInt(1_000_001);
+        }
+        return cents;
+    }
+}